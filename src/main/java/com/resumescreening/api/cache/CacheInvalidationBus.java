@@ -0,0 +1,92 @@
+package com.resumescreening.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the local (L1) tier of every node in step through Redis pub/sub.
+ * - Every put, evict and clear is announced on the invalidation channel
+ * - Other nodes drop the matching L1 entries; their next read goes to Redis
+ * - Messages from this node are ignored, its own L1 is already up to date
+ * - Namespace bumps make other nodes drop their locally held namespace version
+ */
+@Slf4j
+public class CacheInvalidationBus implements MessageListener {
+
+    private static final String CLEAR = "C";
+    private static final String EVICT = "E";
+    private static final String NAMESPACE = "N";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private volatile CacheNamespaces namespaces;
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    void register(TwoTierCache cache) {
+        caches.put(cache.getName(), cache);
+    }
+
+    void register(CacheNamespaces namespaces) {
+        this.namespaces = namespaces;
+    }
+
+    void publishNamespaceBump(String namespace) {
+        publish(NAMESPACE + "|" + nodeId + "|" + namespace + "|");
+    }
+
+    void publishEvict(String cacheName, String key) {
+        publish(EVICT + "|" + nodeId + "|" + cacheName + "|" + key);
+    }
+
+    void publishClear(String cacheName) {
+        publish(CLEAR + "|" + nodeId + "|" + cacheName + "|");
+    }
+
+    // A lost message only means a stale L1 entry until its local TTL runs out
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (Exception e) {
+            log.warn("Failed to publish cache invalidation: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        // type|node|cache-or-namespace|key - the key may itself contain '|', so split at most 4 ways
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 4 || nodeId.equals(parts[1])) {
+            return;
+        }
+
+        if (NAMESPACE.equals(parts[0])) {
+            if (namespaces != null) {
+                namespaces.forgetLocal(parts[2]);
+            }
+            return;
+        }
+
+        TwoTierCache cache = caches.get(parts[2]);
+        if (cache == null) {
+            return;
+        }
+        if (CLEAR.equals(parts[0])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[3]);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.resumescreening.api.cache;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for one TwoTierCache, all tagged with the cache name.
+ * - cache.twotier.gets{result=hit|miss, tier=l1|l2|none}: where a read was answered
+ * - cache.twotier.puts, cache.twotier.evictions{cause=explicit|clear|size|expired}; size/expired are L1-only removals
+ * - cache.twotier.load{result=success|failure}: loader time on a miss; cache.twotier.load.coalesced counts callers
+ *   that waited for another caller's load instead of running their own
+ * - cache.twotier.refreshes{result=success|failure|skipped}: refresh-ahead reloads
+ * The cache.twotier prefix keeps these apart from Micrometer's own cache.* meters (CaffeineCacheMetrics), whose
+ * tag keys differ and would be rejected by Prometheus under the same name.
+ * Payload sizes are recorded by MeteredRedisSerializer, the L1 size gauge by TwoTierCacheManager.
+ */
+public class CacheMetrics {
+
+    private final Counter l1Hits;
+    private final Counter l2Hits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter explicitEvictions;
+    private final Counter clears;
+    private final Map<RemovalCause, Counter> localEvictions = new EnumMap<>(RemovalCause.class);
+    private final Timer loadSuccess;
+    private final Timer loadFailure;
+    private final Counter coalescedLoads;
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+    private final Counter refreshSkipped;
+
+    public CacheMetrics(String cacheName, MeterRegistry registry) {
+        this.l1Hits = gets(registry, cacheName, "hit", "l1");
+        this.l2Hits = gets(registry, cacheName, "hit", "l2");
+        this.misses = gets(registry, cacheName, "miss", "none");
+        this.puts = Counter.builder("cache.twotier.puts")
+                .description("Entries written to the cache")
+                .tag("cache", cacheName)
+                .register(registry);
+        this.explicitEvictions = evictions(registry, cacheName, "explicit");
+        this.clears = evictions(registry, cacheName, "clear");
+        this.localEvictions.put(RemovalCause.SIZE, evictions(registry, cacheName, "size"));
+        this.localEvictions.put(RemovalCause.EXPIRED, evictions(registry, cacheName, "expired"));
+        this.loadSuccess = load(registry, cacheName, "success");
+        this.loadFailure = load(registry, cacheName, "failure");
+        this.coalescedLoads = Counter.builder("cache.twotier.load.coalesced")
+                .description("Misses that waited for a load already running for the same key")
+                .tag("cache", cacheName)
+                .register(registry);
+        this.refreshSuccess = refreshes(registry, cacheName, "success");
+        this.refreshFailure = refreshes(registry, cacheName, "failure");
+        this.refreshSkipped = refreshes(registry, cacheName, "skipped");
+    }
+
+    void l1Hit() {
+        l1Hits.increment();
+    }
+
+    void l2Hit() {
+        l2Hits.increment();
+    }
+
+    void miss() {
+        misses.increment();
+    }
+
+    void put() {
+        puts.increment();
+    }
+
+    void evicted() {
+        explicitEvictions.increment();
+    }
+
+    void cleared() {
+        clears.increment();
+    }
+
+    // Caffeine removal listener - only size and expiry evictions are counted here
+    void localEviction(RemovalCause cause) {
+        Counter counter = localEvictions.get(cause);
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    void loaded(long startNanos, boolean success) {
+        (success ? loadSuccess : loadFailure).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void coalesced() {
+        coalescedLoads.increment();
+    }
+
+    void refreshed() {
+        refreshSuccess.increment();
+    }
+
+    void refreshFailed() {
+        refreshFailure.increment();
+    }
+
+    void refreshSkipped() {
+        refreshSkipped.increment();
+    }
+
+    private static Counter gets(MeterRegistry registry, String cacheName, String result, String tier) {
+        return Counter.builder("cache.twotier.gets")
+                .description("Cache reads by outcome and the tier that answered")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(registry);
+    }
+
+    private static Counter evictions(MeterRegistry registry, String cacheName, String cause) {
+        return Counter.builder("cache.twotier.evictions")
+                .description("Entries removed from the cache")
+                .tag("cache", cacheName)
+                .tag("cause", cause)
+                .register(registry);
+    }
+
+    private static Timer load(MeterRegistry registry, String cacheName, String result) {
+        return Timer.builder("cache.twotier.load")
+                .description("Time spent loading values on cache misses")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static Counter refreshes(MeterRegistry registry, String cacheName, String result) {
+        return Counter.builder("cache.twotier.refreshes")
+                .description("Refresh-ahead reloads")
+                .tag("cache", cacheName)
+                .tag("result", result)
+                .register(registry);
+    }
+}
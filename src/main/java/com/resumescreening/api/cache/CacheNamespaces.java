@@ -0,0 +1,85 @@
+package com.resumescreening.api.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+
+/**
+ * Versioned key namespaces for list caches that cannot be evicted key by key (e.g. pages of active jobs).
+ * - Cache keys embed the namespace version: key("activeJobs", 0, 20) -> "v7:0:20"
+ * - bump() increments the version in Redis, so every old key is orphaned at once and ages out via its TTL;
+ *   no KEYS/SCAN over Redis and no other cache is touched
+ * - Nodes hold the version locally; bumps are announced on the invalidation bus
+ * Use from SpEL: key = "@cacheNamespaces.key('activeJobs', #pageable.pageNumber)"
+ */
+@Slf4j
+public class CacheNamespaces {
+
+    private static final String VERSION_KEY_PREFIX = "cache:ns:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Long> versions;
+
+    public CacheNamespaces(StringRedisTemplate redisTemplate, CacheInvalidationBus invalidationBus,
+                           Duration localVersionTtl) {
+        this.redisTemplate = redisTemplate;
+        this.invalidationBus = invalidationBus;
+        // The TTL only bounds staleness if a bump message is lost
+        this.versions = Caffeine.newBuilder().expireAfterWrite(localVersionTtl).build();
+        invalidationBus.register(this);
+    }
+
+    public String key(String namespace, Object... parts) {
+        StringJoiner key = new StringJoiner(":");
+        key.add("v" + version(namespace));
+        for (Object part : parts) {
+            key.add(String.valueOf(part));
+        }
+        return key.toString();
+    }
+
+    public long version(String namespace) {
+        return versions.get(namespace, ns -> {
+            String value = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + ns);
+            return value != null ? Long.parseLong(value) : 0L;
+        });
+    }
+
+    // Inside a transaction the bump waits for the commit, so readers cannot refill the new namespace with old data
+    public void bump(String namespace) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bumpNow(namespace);
+                }
+            });
+        } else {
+            bumpNow(namespace);
+        }
+    }
+
+    private void bumpNow(String namespace) {
+        try {
+            Long version = redisTemplate.opsForValue().increment(VERSION_KEY_PREFIX + namespace);
+            if (version != null) {
+                versions.put(namespace, version);
+            }
+            invalidationBus.publishNamespaceBump(namespace);
+        } catch (Exception e) {
+            // Old entries stay visible until their TTL runs out
+            versions.invalidate(namespace);
+            log.warn("Failed to bump cache namespace {}: {}", namespace, e.getMessage());
+        }
+    }
+
+    void forgetLocal(String namespace) {
+        versions.invalidate(namespace);
+    }
+}
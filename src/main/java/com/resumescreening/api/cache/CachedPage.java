@@ -0,0 +1,19 @@
+package com.resumescreening.api.cache;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+// Cacheable form of a Page - PageImpl itself cannot be deserialized
+public record CachedPage<T>(List<T> content, long totalElements) {
+
+    public static <T> CachedPage<T> of(Page<T> page) {
+        return new CachedPage<>(page.getContent(), page.getTotalElements());
+    }
+
+    public Page<T> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
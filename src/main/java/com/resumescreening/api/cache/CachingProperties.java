@@ -0,0 +1,107 @@
+package com.resumescreening.api.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings for the two-tier cache (caching.* in application.yml).
+ * - defaults apply to every cache; caches.<name> overrides them per cache
+ * - The local TTL is a safety net for missed invalidation messages, so keep it short
+ * - serializer: smile needs value-type, the canonical Java type of the cached value
+ */
+@Data
+@ConfigurationProperties(prefix = "caching")
+public class CachingProperties {
+
+    // Redis pub/sub channel used to drop stale local entries on other nodes
+    private String invalidationChannel = "cache:invalidation";
+
+    // How long a cross-node load lock is held at most; waiting nodes give up and load after this
+    private Duration loadLockTtl = Duration.ofSeconds(10);
+
+    // How long a node trusts its copy of a namespace version if a bump message is lost
+    private Duration namespaceVersionTtl = Duration.ofMinutes(1);
+
+    private Spec defaults = Spec.builtInDefaults();
+
+    private Map<String, Spec> caches = new HashMap<>();
+
+    // Per-cache settings, unset values fall back to defaults
+    public Spec specFor(String cacheName) {
+        Spec spec = caches.get(cacheName);
+        if (spec == null) {
+            return defaults;
+        }
+        Spec merged = new Spec();
+        merged.setLocalEnabled(or(spec.getLocalEnabled(), defaults.getLocalEnabled()));
+        merged.setLocalMaxSize(or(spec.getLocalMaxSize(), defaults.getLocalMaxSize()));
+        merged.setLocalTtl(or(spec.getLocalTtl(), defaults.getLocalTtl()));
+        merged.setRedisTtl(or(spec.getRedisTtl(), defaults.getRedisTtl()));
+        merged.setRedisTtlJitter(or(spec.getRedisTtlJitter(), defaults.getRedisTtlJitter()));
+        merged.setCacheNulls(or(spec.getCacheNulls(), defaults.getCacheNulls()));
+        merged.setKeyPrefix(or(spec.getKeyPrefix(), defaults.getKeyPrefix()));
+        merged.setSerializer(or(spec.getSerializer(), defaults.getSerializer()));
+        merged.setValueType(or(spec.getValueType(), defaults.getValueType()));
+        merged.setCompressionThreshold(or(spec.getCompressionThreshold(), defaults.getCompressionThreshold()));
+        merged.setLoadLock(or(spec.getLoadLock(), defaults.getLoadLock()));
+        merged.setRefreshAhead(or(spec.getRefreshAhead(), defaults.getRefreshAhead()));
+        return merged;
+    }
+
+    private static <T> T or(T value, T fallback) {
+        return value != null ? value : fallback;
+    }
+
+    public enum Serializer {
+        JSON,   // Default-typed JSON, works for any value
+        SMILE   // Typed binary JSON, optionally LZ4-compressed
+    }
+
+    // Fields are left null so a per-cache override only replaces what it sets
+    @Data
+    public static class Spec {
+        // False skips the local tier: each read gets its own copy from Redis. Needed for mutable values
+        // (JPA entities), since the local tier shares one instance between all threads
+        private Boolean localEnabled;
+        // Max entries apply to the local tier; Redis is bounded by its maxmemory policy
+        private Long localMaxSize;
+        private Duration localTtl;
+        private Duration redisTtl;
+        // Up to this fraction of redisTtl is added at random, so entries written together expire apart
+        private Double redisTtlJitter;
+        // When false, null results are not cached in either tier
+        private Boolean cacheNulls;
+        // Prepended to "<cache>::" in Redis keys, e.g. to share one Redis between environments
+        private String keyPrefix;
+        private Serializer serializer;
+        private String valueType;
+        // Smile payloads at least this large are LZ4-compressed, negative turns compression off
+        private DataSize compressionThreshold;
+        // Hold a Redis lock per key while loading, so only one node hits the database
+        private Boolean loadLock;
+        // Reload in the background when an entry has less Redis TTL left than this, 0 turns it off;
+        // should be longer than localTtl, since only L1 misses look at the Redis TTL
+        private Duration refreshAhead;
+
+        static Spec builtInDefaults() {
+            Spec spec = new Spec();
+            spec.setLocalEnabled(true);
+            spec.setLocalMaxSize(1000L);
+            spec.setLocalTtl(Duration.ofMinutes(5));
+            spec.setRedisTtl(Duration.ofHours(1));
+            spec.setRedisTtlJitter(0.1);
+            spec.setCacheNulls(true);
+            spec.setKeyPrefix("");
+            spec.setSerializer(Serializer.JSON);
+            spec.setCompressionThreshold(DataSize.ofKilobytes(2));
+            spec.setLoadLock(false);
+            spec.setRefreshAhead(Duration.ZERO);
+            return spec;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.resumescreening.api.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis TTL with random jitter, so entries written together do not all expire together.
+ * - The TTL is drawn from [ttl, ttl * (1 + jitter)]; an entry never lives shorter than configured
+ * - A jitter of 0 gives a fixed TTL
+ */
+public class JitteredTtlFunction implements RedisCacheWriter.TtlFunction {
+
+    private final long ttlMillis;
+    private final long maxJitterMillis;
+
+    public JitteredTtlFunction(Duration ttl, double jitter) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive: " + ttl);
+        }
+        if (jitter < 0) {
+            throw new IllegalArgumentException("TTL jitter must not be negative: " + jitter);
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.maxJitterMillis = (long) (ttlMillis * jitter);
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        if (maxJitterMillis == 0) {
+            return Duration.ofMillis(ttlMillis);
+        }
+        return Duration.ofMillis(ttlMillis + ThreadLocalRandom.current().nextLong(maxJitterMillis + 1));
+    }
+}
@@ -0,0 +1,28 @@
+package com.resumescreening.api.cache;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+/**
+ * How a TwoTierCache protects its loader beyond per-key single-flight on this node.
+ * - lock: hold a Redis lock per key while loading, so one node hits the database and the others wait for its value
+ * - refreshAhead: when an L2 hit has less TTL left than this, the current value is served
+ *   and a background reload replaces it before it expires
+ */
+public record LoadPolicy(RedisLoadCoordinator coordinator,
+                         String redisKeyPrefix,
+                         boolean lock,
+                         Duration refreshAhead,
+                         Executor refreshExecutor) {
+
+    // Single-flight within this node only
+    public static final LoadPolicy LOCAL_ONLY = new LoadPolicy(null, "", false, Duration.ZERO, Runnable::run);
+
+    boolean lockEnabled() {
+        return lock && coordinator != null;
+    }
+
+    boolean refreshAheadEnabled() {
+        return coordinator != null && refreshAhead != null && refreshAhead.isPositive();
+    }
+}
@@ -0,0 +1,49 @@
+package com.resumescreening.api.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Records the size of every cache value written to and read from Redis as cache.twotier.payload.size{cache, operation}.
+ * Wraps whichever value serializer the cache uses, so JSON and Smile caches can be compared directly.
+ */
+public class MeteredRedisSerializer implements RedisSerializer<Object> {
+
+    private final RedisSerializer<Object> delegate;
+    private final DistributionSummary writes;
+    private final DistributionSummary reads;
+
+    public MeteredRedisSerializer(RedisSerializer<Object> delegate, String cacheName, MeterRegistry registry) {
+        this.delegate = delegate;
+        this.writes = payloadSize(registry, cacheName, "write");
+        this.reads = payloadSize(registry, cacheName, "read");
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        if (bytes != null) {
+            writes.record(bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes != null) {
+            reads.record(bytes.length);
+        }
+        return delegate.deserialize(bytes);
+    }
+
+    private static DistributionSummary payloadSize(MeterRegistry registry, String cacheName, String operation) {
+        return DistributionSummary.builder("cache.twotier.payload.size")
+                .description("Serialized size of cache values in Redis")
+                .baseUnit("bytes")
+                .tag("cache", cacheName)
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
@@ -0,0 +1,72 @@
+package com.resumescreening.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis side of cache stampede protection, shared by all caches of a node.
+ * - A short per-key lock (SET NX PX) lets one node load while the others wait for its value
+ * - The lock is released only by its owner, and expires on its own if the owner dies
+ * - Remaining TTL lookups drive refresh-ahead
+ * Redis errors never fail a cache read; callers fall back to loading without coordination.
+ */
+@Slf4j
+public class RedisLoadCoordinator {
+
+    private static final String LOCK_PREFIX = "lock:";
+
+    // Delete the lock only if it still holds our token
+    private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration lockTtl;
+
+    public RedisLoadCoordinator(StringRedisTemplate redisTemplate, Duration lockTtl) {
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = lockTtl;
+    }
+
+    public Duration getLockTtl() {
+        return lockTtl;
+    }
+
+    // Returns the lock token, or null if another node holds the lock
+    public String tryLock(String redisKey) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + redisKey, token, lockTtl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.warn("Cache load lock unavailable for {}: {}", redisKey, e.getMessage());
+            return token;  // Behave as if locked, so the load still happens
+        }
+    }
+
+    public void unlock(String redisKey, String token) {
+        try {
+            redisTemplate.execute(UNLOCK, List.of(LOCK_PREFIX + redisKey), token);
+        } catch (Exception e) {
+            log.warn("Failed to release cache load lock for {}: {}", redisKey, e.getMessage());
+        }
+    }
+
+    // Null when the key is missing, has no expiry, or Redis is unavailable
+    public Duration remainingTtl(String redisKey) {
+        try {
+            Long millis = redisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS);
+            return millis != null && millis >= 0 ? Duration.ofMillis(millis) : null;
+        } catch (Exception e) {
+            log.debug("TTL lookup failed for {}: {}", redisKey, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.resumescreening.api.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileParser;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Redis cache value serializer that writes one known type as Smile (binary JSON).
+ * - No class names in the payload: the type comes from configuration, not from the data
+ * - Payloads of at least compressionThreshold bytes are LZ4-compressed
+ * - Spring's NullValue is written as a single marker byte
+ *
+ * Layout: [format byte][body], where format is NULL, SMILE or LZ4 (original length + LZ4 block).
+ */
+public class SmileRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte FORMAT_NULL = 0;
+    private static final byte FORMAT_SMILE = 1;
+    private static final byte FORMAT_LZ4 = 2;
+
+    // Guards against allocating huge buffers for a corrupt length header
+    private static final int MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder()
+            .disable(SmileGenerator.Feature.WRITE_HEADER)
+            .disable(SmileParser.Feature.REQUIRE_HEADER)
+            // Entries written by an older version of a DTO must still be readable during a rollout
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .addModule(new JavaTimeModule())
+            .build();
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final int compressionThreshold;
+    private final LZ4Compressor compressor = LZ4.fastCompressor();
+    private final LZ4SafeDecompressor decompressor = LZ4.safeDecompressor();
+
+    // Compression is off when compressionThreshold is negative
+    public SmileRedisSerializer(JavaType valueType, int compressionThreshold) {
+        this.writer = SMILE_MAPPER.writerFor(valueType);
+        this.reader = SMILE_MAPPER.readerFor(valueType);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    // Canonical type name, e.g. java.util.List<com.example.Dto>
+    public static JavaType resolveType(String canonicalName) {
+        try {
+            return SMILE_MAPPER.getTypeFactory().constructFromCanonical(canonicalName);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unknown cache value type: " + canonicalName, e);
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof NullValue) {
+            return new byte[] {FORMAT_NULL};
+        }
+
+        byte[] smile;
+        try {
+            smile = writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value as Smile", e);
+        }
+
+        if (compressionThreshold < 0 || smile.length < compressionThreshold) {
+            return withFormat(FORMAT_SMILE, smile);
+        }
+        return compress(smile);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return switch (bytes[0]) {
+                case FORMAT_NULL -> NullValue.INSTANCE;
+                case FORMAT_SMILE -> reader.readValue(bytes, 1, bytes.length - 1);
+                case FORMAT_LZ4 -> reader.readValue(decompress(bytes));
+                default -> throw new SerializationException("Unknown cache value format: " + bytes[0]);
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Could not read Smile cache value", e);
+        }
+    }
+
+    // [FORMAT_LZ4][original length][LZ4 block], or plain Smile when compression does not pay off
+    private byte[] compress(byte[] smile) {
+        int headerLength = 1 + Integer.BYTES;
+        byte[] out = new byte[headerLength + compressor.maxCompressedLength(smile.length)];
+        int compressedLength = compressor.compress(smile, 0, smile.length, out, headerLength);
+        if (compressedLength >= smile.length) {
+            return withFormat(FORMAT_SMILE, smile);
+        }
+        out[0] = FORMAT_LZ4;
+        ByteBuffer.wrap(out, 1, Integer.BYTES).putInt(smile.length);
+        return Arrays.copyOf(out, headerLength + compressedLength);
+    }
+
+    private byte[] decompress(byte[] bytes) {
+        if (bytes.length < 1 + Integer.BYTES) {
+            throw new SerializationException("Truncated LZ4 cache value");
+        }
+        int originalLength = ByteBuffer.wrap(bytes, 1, Integer.BYTES).getInt();
+        if (originalLength < 0 || originalLength > MAX_DECOMPRESSED_SIZE) {
+            throw new SerializationException("Invalid LZ4 cache value length: " + originalLength);
+        }
+        byte[] smile = new byte[originalLength];
+        int offset = 1 + Integer.BYTES;
+        try {
+            int length = decompressor.decompress(bytes, offset, bytes.length - offset, smile, 0, originalLength);
+            if (length != originalLength) {
+                throw new SerializationException("Corrupt LZ4 cache value");
+            }
+        } catch (LZ4Exception e) {
+            throw new SerializationException("Corrupt LZ4 cache value", e);
+        }
+        return smile;
+    }
+
+    private static byte[] withFormat(byte format, byte[] body) {
+        byte[] out = new byte[body.length + 1];
+        out[0] = format;
+        System.arraycopy(body, 0, out, 1, body.length);
+        return out;
+    }
+}
@@ -0,0 +1,332 @@
+package com.resumescreening.api.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Cache with an in-process Caffeine tier (L1) in front of a shared Redis tier (L2).
+ * - Reads try L1, then L2; an L2 hit is copied into L1
+ * - Writes and evictions go to both tiers and are announced to other nodes
+ * - L1 keys are the string form of the cache key, the same form used in invalidation messages
+ * - With cacheNulls off, a null value is never stored; putting one evicts the key instead
+ * - get(key, loader), used by @Cacheable(sync = true), runs at most one loader per key on this node;
+ *   LoadPolicy adds a Redis lock across nodes and refresh-ahead
+ * - local may be null (local-enabled: false): every read then deserializes a fresh copy from Redis, which
+ *   caches of mutable values such as JPA entities need, since L1 hands all threads the same instance
+ */
+@Slf4j
+public class TwoTierCache implements Cache {
+
+    private static final Duration LOCK_POLL_INTERVAL = Duration.ofMillis(50);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private final Cache remote;
+    private final CacheInvalidationBus invalidationBus;
+    private final boolean cacheNulls;
+    private final LoadPolicy loadPolicy;
+    private final CacheMetrics metrics;
+    // Loads and refreshes in progress on this node, by L1 key
+    private final Map<String, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+                        Cache remote,
+                        CacheInvalidationBus invalidationBus,
+                        boolean cacheNulls,
+                        LoadPolicy loadPolicy,
+                        CacheMetrics metrics) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+        this.cacheNulls = cacheNulls;
+        this.loadPolicy = loadPolicy;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local != null ? local : remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        Object cached = localGet(localKey);
+        if (cached != null) {
+            metrics.l1Hit();
+            return new SimpleValueWrapper(fromStoreValue(cached));
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            metrics.l2Hit();
+            localPut(localKey, toStoreValue(wrapper.get()));
+        } else {
+            metrics.miss();
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object cached = localGet(localKey);
+        if (cached != null) {
+            metrics.l1Hit();
+            return (T) fromStoreValue(cached);
+        }
+
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            metrics.l2Hit();
+            localPut(localKey, toStoreValue(wrapper.get()));
+            refreshIfExpiringSoon(key, localKey, wrapper.get(), valueLoader);
+            return (T) wrapper.get();
+        }
+        metrics.miss();
+        return (T) loadOnce(key, localKey, valueLoader);
+    }
+
+    // Single-flight: concurrent misses for one key wait for the first caller's load
+    private Object loadOnce(Object key, String localKey, Callable<?> valueLoader) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inProgress = loads.putIfAbsent(localKey, load);
+        if (inProgress != null) {
+            metrics.coalesced();
+            try {
+                return inProgress.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error error) {
+                    throw error;
+                }
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            Object value = loadAcrossNodes(key, localKey, valueLoader);
+            load.complete(value);
+            return value;
+        } catch (Throwable t) {
+            // Errors too (StackOverflowError, OOM): an incomplete future would block the waiters forever
+            load.completeExceptionally(t);
+            throw t;
+        } finally {
+            loads.remove(localKey, load);
+        }
+    }
+
+    // With a load lock, one node loads; the others poll Redis for its value until the lock TTL runs out
+    private Object loadAcrossNodes(Object key, String localKey, Callable<?> valueLoader) {
+        if (!loadPolicy.lockEnabled()) {
+            return loadAndPut(key, valueLoader);
+        }
+
+        RedisLoadCoordinator coordinator = loadPolicy.coordinator();
+        String redisKey = loadPolicy.redisKeyPrefix() + localKey;
+        long deadline = System.nanoTime() + coordinator.getLockTtl().toNanos();
+        boolean waited = false;
+
+        while (true) {
+            String token = coordinator.tryLock(redisKey);
+            if (token != null) {
+                try {
+                    // The previous lock holder may have stored the value just before releasing
+                    ValueWrapper wrapper = waited ? remote.get(key) : null;
+                    if (wrapper != null) {
+                        localPut(localKey, toStoreValue(wrapper.get()));
+                        return wrapper.get();
+                    }
+                    return loadAndPut(key, valueLoader);
+                } finally {
+                    coordinator.unlock(redisKey, token);
+                }
+            }
+
+            waited = true;
+            try {
+                Thread.sleep(LOCK_POLL_INTERVAL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return loadAndPut(key, valueLoader);
+            }
+
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null) {
+                localPut(localKey, toStoreValue(wrapper.get()));
+                return wrapper.get();
+            }
+            if (System.nanoTime() > deadline) {
+                log.warn("Gave up waiting for cache load lock on {}::{}, loading locally", name, localKey);
+                return loadAndPut(key, valueLoader);
+            }
+        }
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) {
+        long start = System.nanoTime();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            metrics.loaded(start, false);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        metrics.loaded(start, true);
+        put(key, value);
+        return value;
+    }
+
+    // Refresh-ahead: serve the current value and reload it in the background shortly before Redis expires it
+    private void refreshIfExpiringSoon(Object key, String localKey, Object current, Callable<?> valueLoader) {
+        if (!loadPolicy.refreshAheadEnabled()) {
+            return;
+        }
+        String redisKey = loadPolicy.redisKeyPrefix() + localKey;
+        Duration remaining = loadPolicy.coordinator().remainingTtl(redisKey);
+        if (remaining == null || remaining.compareTo(loadPolicy.refreshAhead()) > 0) {
+            return;
+        }
+
+        // Misses arriving during the refresh get the new value, or the current one if the refresh fails
+        CompletableFuture<Object> refresh = new CompletableFuture<>();
+        if (loads.putIfAbsent(localKey, refresh) != null) {
+            return;
+        }
+        try {
+            loadPolicy.refreshExecutor().execute(() -> {
+                try {
+                    refresh.complete(refresh(key, redisKey, current, valueLoader));
+                } finally {
+                    loads.remove(localKey, refresh);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            loads.remove(localKey, refresh);
+            refresh.complete(current);
+        }
+    }
+
+    private Object refresh(Object key, String redisKey, Object current, Callable<?> valueLoader) {
+        String token = null;
+        if (loadPolicy.lockEnabled()) {
+            token = loadPolicy.coordinator().tryLock(redisKey);
+            if (token == null) {
+                metrics.refreshSkipped();
+                return current;  // Another node is already refreshing
+            }
+        }
+        try {
+            Object value = loadAndPut(key, valueLoader);
+            metrics.refreshed();
+            return value;
+        } catch (RuntimeException e) {
+            metrics.refreshFailed();
+            log.warn("Refresh-ahead failed for {}::{}: {}", name, key, e.getMessage());
+            return current;
+        } finally {
+            if (token != null) {
+                loadPolicy.coordinator().unlock(redisKey, token);
+            }
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null && !cacheNulls) {
+            evict(key);
+            return;
+        }
+        remote.put(key, value);
+        metrics.put();
+        String localKey = localKey(key);
+        localPut(localKey, toStoreValue(value));
+        invalidationBus.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        metrics.evicted();
+        String localKey = localKey(key);
+        localInvalidate(localKey);
+        invalidationBus.publishEvict(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        metrics.cleared();
+        clearLocal();
+        invalidationBus.publishClear(name);
+    }
+
+    // Called for invalidation messages from other nodes - L2 is already up to date
+    void evictLocal(String localKey) {
+        localInvalidate(localKey);
+    }
+
+    void clearLocal() {
+        if (local != null) {
+            local.invalidateAll();
+        }
+    }
+
+    private Object localGet(String localKey) {
+        return local != null ? local.getIfPresent(localKey) : null;
+    }
+
+    private void localPut(String localKey, Object storeValue) {
+        if (local != null) {
+            local.put(localKey, storeValue);
+        }
+    }
+
+    private void localInvalidate(String localKey) {
+        if (local != null) {
+            local.invalidate(localKey);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    // Caffeine cannot hold null, so cached nulls are kept as NullValue
+    private static Object toStoreValue(Object value) {
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    private static Object fromStoreValue(Object value) {
+        return value == NullValue.INSTANCE ? null : value;
+    }
+}
@@ -0,0 +1,100 @@
+package com.resumescreening.api.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * CacheManager that wraps every cache of the Redis manager in a TwoTierCache.
+ * - Local tier size, TTL and null caching come from CachingProperties, per cache name
+ * - Caches are created on first use, like RedisCacheManager does
+ * - Refresh-ahead reloads run on virtual threads; single-flight keeps it to one per key
+ * - Every cache gets its own CacheMetrics and, unless its local tier is disabled, an L1 size gauge
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final CachingProperties properties;
+    private final CacheInvalidationBus invalidationBus;
+    private final RedisLoadCoordinator loadCoordinator;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager,
+                               CachingProperties properties,
+                               CacheInvalidationBus invalidationBus,
+                               RedisLoadCoordinator loadCoordinator,
+                               MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.invalidationBus = invalidationBus;
+        this.loadCoordinator = loadCoordinator;
+        this.meterRegistry = meterRegistry;
+        // Configured caches exist (and report metrics) from the start
+        remoteCacheManager.getCacheNames().forEach(this::getCache);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    private TwoTierCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            throw new IllegalStateException("No Redis cache available for " + name);
+        }
+
+        CachingProperties.Spec spec = properties.specFor(name);
+        CacheMetrics metrics = new CacheMetrics(name, meterRegistry);
+        com.github.benmanes.caffeine.cache.Cache<String, Object> local = null;
+        if (spec.getLocalEnabled()) {
+            local = Caffeine.newBuilder()
+                    .maximumSize(spec.getLocalMaxSize())
+                    .expireAfterWrite(spec.getLocalTtl())
+                    .evictionListener((key, value, cause) -> metrics.localEviction(cause))
+                    .build();
+            Gauge.builder("cache.twotier.size", local, com.github.benmanes.caffeine.cache.Cache::estimatedSize)
+                    .description("Approximate number of entries in the local tier")
+                    .tag("cache", name)
+                    .tag("tier", "l1")
+                    .register(meterRegistry);
+        }
+
+        TwoTierCache cache = new TwoTierCache(name, local, remote, invalidationBus, spec.getCacheNulls(),
+                loadPolicy(remote, spec), metrics);
+        invalidationBus.register(cache);
+        return cache;
+    }
+
+    private LoadPolicy loadPolicy(Cache remote, CachingProperties.Spec spec) {
+        // Lock and TTL lookups need the real Redis key, which only the RedisCache knows the prefix of
+        if (!(remote instanceof RedisCache redisCache)) {
+            return LoadPolicy.LOCAL_ONLY;
+        }
+        String redisKeyPrefix = redisCache.getCacheConfiguration().getKeyPrefixFor(redisCache.getName());
+        return new LoadPolicy(loadCoordinator, redisKeyPrefix, spec.getLoadLock(), spec.getRefreshAhead(),
+                refreshExecutor);
+    }
+
+    // Called by Spring when the context closes (inferred destroy method)
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
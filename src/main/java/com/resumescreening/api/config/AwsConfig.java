@@ -1,14 +1,24 @@
 package com.resumescreening.api.config;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+
+import java.net.URI;
 
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class AwsConfig {
 
     @Value("${aws.s3.access-key}")
@@ -20,13 +30,64 @@ public class AwsConfig {
     @Value("${aws.s3.region}")
     private String region;
 
+    // Optional - point at MinIO or another S3 stand-in for local runs and tests
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${aws.s3.path-style-access:false}")
+    private boolean pathStyleAccess;
+
+    @Value("${aws.s3.multipart.part-size:5MB}")
+    private DataSize partSize;
+
+    @Value("${aws.s3.multipart.max-in-flight-parts:4}")
+    private int maxInFlightParts;
+
+    @Value("${aws.s3.max-attempts:5}")
+    private int maxAttempts;
+
     @Bean
     public S3Client s3Client() {
-        AwsBasicCredentials credentials = AwsBasicCredentials.create(accessKey, secretKey);
+        S3ClientBuilder builder = S3Client.builder()
+                .credentialsProvider(credentialsProvider())
+                .region(Region.of(region))
+                .forcePathStyle(pathStyleAccess)
+                .overrideConfiguration(config -> config.retryStrategy(retry -> retry.maxAttempts(maxAttempts)));
 
-        return S3Client.builder()
-                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    // Async client with the SDK's multipart support - parts are uploaded in parallel and retried individually
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient() {
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .credentialsProvider(credentialsProvider())
                 .region(Region.of(region))
+                .forcePathStyle(pathStyleAccess)
+                .overrideConfiguration(config -> config.retryStrategy(retry -> retry.maxAttempts(maxAttempts)))
+                .multipartEnabled(true)
+                .multipartConfiguration(multipart -> multipart
+                        .minimumPartSizeInBytes(partSize.toBytes())
+                        .thresholdInBytes(partSize.toBytes())
+                        .parallelConfiguration(parallel -> parallel.maxInFlightParts(maxInFlightParts)));
+
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3TransferManager s3TransferManager(S3AsyncClient s3AsyncClient) {
+        return S3TransferManager.builder()
+                .s3Client(s3AsyncClient)
                 .build();
     }
-}
\ No newline at end of file
+
+    private StaticCredentialsProvider credentialsProvider() {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+}
@@ -1,21 +1,44 @@
 package com.resumescreening.api.config;
 
+import com.resumescreening.api.cache.CacheInvalidationBus;
+import com.resumescreening.api.cache.CacheNamespaces;
+import com.resumescreening.api.cache.CachingProperties;
+import com.resumescreening.api.cache.JitteredTtlFunction;
+import com.resumescreening.api.cache.MeteredRedisSerializer;
+import com.resumescreening.api.cache.RedisLoadCoordinator;
+import com.resumescreening.api.cache.SmileRedisSerializer;
+import com.resumescreening.api.cache.TwoTierCacheManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.cache.BatchStrategies;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
-@EnableCaching
+// Caching runs outside @Transactional, so cache hits never open a transaction and a loader
+// run for refresh-ahead on another thread still starts its own
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+@EnableConfigurationProperties(CachingProperties.class)
 public class RedisConfig {
 
     private GenericJacksonJsonRedisSerializer createJsonSerializer() {
@@ -43,16 +66,91 @@ public class RedisConfig {
     }
 
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        GenericJacksonJsonRedisSerializer jsonSerializer = createJsonSerializer();
+    public CacheInvalidationBus cacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+                                                     CachingProperties properties) {
+        return new CacheInvalidationBus(stringRedisTemplate, properties.getInvalidationChannel());
+    }
+
+    @Bean
+    public CacheNamespaces cacheNamespaces(StringRedisTemplate stringRedisTemplate,
+                                           CacheInvalidationBus invalidationBus,
+                                           CachingProperties properties) {
+        return new CacheNamespaces(stringRedisTemplate, invalidationBus, properties.getNamespaceVersionTtl());
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheInvalidationBus invalidationBus,
+                                                                            CachingProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
+    }
+
+    // Caffeine near-cache (L1) in front of Redis (L2), kept consistent across nodes via pub/sub
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     CachingProperties properties,
+                                     CacheInvalidationBus invalidationBus,
+                                     MeterRegistry meterRegistry) {
+        RedisCacheConfiguration base = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()));
 
-        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofHours(1))
-                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(jsonSerializer));
+        // Per-cache TTL, null handling, key prefix and value serializer
+        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
+        properties.getCaches().keySet().forEach(name -> cacheConfigs.put(name,
+                cacheConfiguration(base, name, "caching.caches." + name, properties.specFor(name), meterRegistry)));
 
-        return RedisCacheManager.builder(connectionFactory)
-                .cacheDefaults(config)
+        // clear() uses SCAN in batches instead of a blocking KEYS
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory,
+                BatchStrategies.scan(1000));
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
+                .cacheDefaults(cacheConfiguration(base, "default", "caching.defaults", properties.getDefaults(),
+                        meterRegistry))
+                .withInitialCacheConfigurations(cacheConfigs)
                 .build();
+        redisCacheManager.initializeCaches();
+
+        RedisLoadCoordinator loadCoordinator = new RedisLoadCoordinator(stringRedisTemplate, properties.getLoadLockTtl());
+        return new TwoTierCacheManager(redisCacheManager, properties, invalidationBus, loadCoordinator,
+                meterRegistry);
+    }
+
+    // metricsName tags the payload size meter; caches without their own entry share "default"
+    private RedisCacheConfiguration cacheConfiguration(RedisCacheConfiguration base, String metricsName,
+                                                       String propertyPath, CachingProperties.Spec spec,
+                                                       MeterRegistry meterRegistry) {
+        boolean smile = spec.getSerializer() == CachingProperties.Serializer.SMILE;
+
+        // Smile caches get their own key space, so entries written as JSON before a switch are never read as Smile
+        String keyPrefix = spec.getKeyPrefix();
+        String format = smile ? ":smile" : "";
+        RedisCacheConfiguration config = base
+                .computePrefixWith(cacheName -> keyPrefix + cacheName + format + CacheKeyPrefix.SEPARATOR);
+
+        // Zero means entries never expire
+        config = spec.getRedisTtl().isZero()
+                ? config.entryTtl(Duration.ZERO)
+                : config.entryTtl(new JitteredTtlFunction(spec.getRedisTtl(), spec.getRedisTtlJitter()));
+
+        if (!spec.getCacheNulls()) {
+            config = config.disableCachingNullValues();
+        }
+
+        RedisSerializer<Object> serializer = smile ? smileSerializer(propertyPath, spec) : createJsonSerializer();
+        return config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                new MeteredRedisSerializer(serializer, metricsName, meterRegistry)));
+    }
+
+    private SmileRedisSerializer smileSerializer(String propertyPath, CachingProperties.Spec spec) {
+        if (spec.getValueType() == null || spec.getValueType().isBlank()) {
+            throw new IllegalStateException(propertyPath + ".value-type is required for the Smile serializer");
+        }
+        return new SmileRedisSerializer(
+                SmileRedisSerializer.resolveType(spec.getValueType()),
+                (int) spec.getCompressionThreshold().toBytes());
     }
 }
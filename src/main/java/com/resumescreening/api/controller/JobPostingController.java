@@ -42,7 +42,7 @@ public class JobPostingController {
                 : Sort.by(sortBy).descending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<JobPostingResponse> jobsPage = jobPostingService.getAllActiveJobs(pageable);
+        Page<JobPostingResponse> jobsPage = jobPostingService.getAllActiveJobs(pageable).toPage(pageable);
 
         return ResponseEntity.ok(ApiResponse.success(jobsPage));
     }
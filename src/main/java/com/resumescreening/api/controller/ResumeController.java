@@ -3,18 +3,31 @@ package com.resumescreening.api.controller;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.resumescreening.api.model.dto.response.ApiResponse;
 import com.resumescreening.api.model.dto.response.ResumeResponse;
+import com.resumescreening.api.model.entity.Resume;
 import com.resumescreening.api.model.entity.User;
+import com.resumescreening.api.service.FileStorageService;
 import com.resumescreening.api.service.ResumeService;
 import com.resumescreening.api.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/resumes")
@@ -24,6 +37,7 @@ public class ResumeController {
 
     private final ResumeService resumeService;
     private final UserService userService;
+    private final FileStorageService fileStorageService;
 
     // Upload resume
     @PostMapping("/upload")
@@ -68,6 +82,115 @@ public class ResumeController {
         }
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+    // Download the original file - streamed, with Range and ETag support.
+    // Candidates get their own resumes, recruiters the ones submitted to their jobs
+    @GetMapping("/{id}/file")
+    @PreAuthorize("hasAnyRole('CANDIDATE', 'RECRUITER')")
+    public ResponseEntity<StreamingResponseBody> downloadResume(
+            @PathVariable Long id,
+            @RequestHeader HttpHeaders headers,
+            Authentication authentication,
+            HttpServletRequest request
+    ) {
+        User user = getAuthenticatedUser(authentication);
+        Resume resume = resumeService.getResumeForDownload(id, user);
+
+        // Content hash is a strong validator - same hash, same bytes
+        String etag = resume.getContentHash() != null ? "\"" + resume.getContentHash() + "\"" : null;
+        if (etag != null && matchesEtag(headers.getIfNoneMatch(), etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+        }
+
+        String location = resume.getFilePath();
+        long size = fileStorageService.getFileSize(location);
+
+        // A single byte range; multiple ranges or a stale If-Range get the whole file
+        long start = 0;
+        long end = size - 1;
+        List<HttpRange> ranges = parseRanges(headers);
+        boolean partial = ranges.size() == 1 && ifRangeMatches(headers, etag);
+        if (partial) {
+            HttpRange range = ranges.get(0);
+            if (size == 0 || !isSatisfiable(range, size)) {
+                return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                        .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                        .build();
+            }
+            start = range.getRangeStart(size);
+            end = range.getRangeEnd(size);
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(partial ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .contentType(resume.getContentType() != null
+                        ? MediaType.parseMediaType(resume.getContentType())
+                        : MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(resume.getFileName(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString());
+        if (etag != null) {
+            response.eTag(etag);
+        }
+        if (partial) {
+            response.header(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+
+        long offset = start;
+        long length = end - start + 1;
+        response.contentLength(length);
+
+        if (useSendfile(request, location, offset, offset + length)) {
+            return response.build();
+        }
+        return response.body(out -> fileStorageService.transferTo(location, offset, length, Channels.newChannel(out)));
+    }
+
+    // Invalid Range headers are ignored, as RFC 9110 allows
+    private List<HttpRange> parseRanges(HttpHeaders headers) {
+        try {
+            return headers.getRange();
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
+    private boolean isSatisfiable(HttpRange range, long size) {
+        try {
+            return range.getRangeStart(size) < size;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // No If-Range, or it names the current version
+    private boolean ifRangeMatches(HttpHeaders headers, String etag) {
+        String ifRange = headers.getFirst(HttpHeaders.IF_RANGE);
+        return ifRange == null || ifRange.equals(etag);
+    }
+
+    private boolean matchesEtag(List<String> ifNoneMatch, String etag) {
+        return ifNoneMatch.stream()
+                .anyMatch(candidate -> candidate.equals("*") || candidate.equals(etag) || candidate.equals("W/" + etag));
+    }
+
+    // Tomcat's sendfile hands a local file straight from the page cache to the socket (zero-copy).
+    // Only possible when the file lives on this machine and the connector supports it; end is exclusive
+    private boolean useSendfile(HttpServletRequest request, String location, long start, long end) {
+        Optional<Path> localPath = fileStorageService.getLocalPath(location);
+        if (localPath.isEmpty() || !Boolean.TRUE.equals(request.getAttribute("org.apache.tomcat.sendfile.support"))) {
+            return false;
+        }
+        request.setAttribute("org.apache.tomcat.sendfile.filename", localPath.get().toString());
+        request.setAttribute("org.apache.tomcat.sendfile.start", start);
+        request.setAttribute("org.apache.tomcat.sendfile.end", end);
+        return true;
+    }
+
     // Delete resume
     @DeleteMapping("/{id}")
     public ResponseEntity<ApiResponse<Void>> deleteResume(
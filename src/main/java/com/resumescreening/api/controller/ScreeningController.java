@@ -3,12 +3,17 @@ package com.resumescreening.api.controller;
 import com.resumescreening.api.model.dto.request.BatchScreeningRequest;
 import com.resumescreening.api.model.dto.request.ScreeningRequest;
 import com.resumescreening.api.model.dto.response.ApiResponse;
+import com.resumescreening.api.model.dto.response.BatchRunResponse;
+import com.resumescreening.api.model.dto.response.BatchScreeningResponse;
+import com.resumescreening.api.model.dto.response.CursorPageResponse;
 import com.resumescreening.api.model.dto.response.JobPostingResponse;
 import com.resumescreening.api.model.dto.response.ScreeningResultResponse;
 import com.resumescreening.api.model.entity.Application;
 import com.resumescreening.api.model.entity.User;
 import com.resumescreening.api.model.enums.Recommendation;
 import com.resumescreening.api.service.ApplicationService;
+import com.resumescreening.api.service.BatchScreeningRunService;
+import com.resumescreening.api.service.BatchScreeningService;
 import com.resumescreening.api.service.JobPostingService;
 import com.resumescreening.api.service.ScreeningService;
 import com.resumescreening.api.service.UserService;
@@ -22,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/screening")
@@ -30,13 +36,15 @@ import java.util.Optional;
 public class ScreeningController {
 
     private final ScreeningService screeningService;
+    private final BatchScreeningService batchScreeningService;
+    private final BatchScreeningRunService batchScreeningRunService;
     private final JobPostingService jobPostingService;
     private final ApplicationService applicationService;
     private final UserService userService;
 
-    // ✅ Screen single application
+    // ✅ Screen single application - the request thread is released while the LLM responds
     @PostMapping("/analyze")
-    public ResponseEntity<ApiResponse<ScreeningResultResponse>> screenApplication(
+    public CompletableFuture<ResponseEntity<ApiResponse<ScreeningResultResponse>>> screenApplication(
             @Valid @RequestBody ScreeningRequest request,
             Authentication authentication
     ) {
@@ -46,9 +54,9 @@ public class ScreeningController {
         Application application = applicationService.getApplicationEntityById(request.getApplicationId());
 
         if (!application.getJobPosting().getUser().getId().equals(user.getId())) {
-            return ResponseEntity
+            return CompletableFuture.completedFuture(ResponseEntity
                     .status(HttpStatus.FORBIDDEN)
-                    .body(ApiResponse.error("You don't have permission to screen this application"));
+                    .body(ApiResponse.error("You don't have permission to screen this application")));
         }
 
         // Check if already screened, if yes return existing result
@@ -56,23 +64,23 @@ public class ScreeningController {
                 screeningService.getScreeningResultByApplicationId(application.getId());
 
         if (existingResult.isPresent()) {
-            return ResponseEntity.ok(
+            return CompletableFuture.completedFuture(ResponseEntity.ok(
                     ApiResponse.success("Application already screened - returning existing result",
                             existingResult.get())
-            );
+            ));
         }
 
         // Screen application
-        ScreeningResultResponse result = screeningService.screenApplication(application);
-
-        return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .body(ApiResponse.success("Application screened successfully", result));
+        return screeningService.screenApplicationAsync(application)
+                .thenApply(result -> ResponseEntity
+                        .status(HttpStatus.CREATED)
+                        .body(ApiResponse.success("Application screened successfully", result)));
     }
 
-    // ✅ Batch screen all applications for a job
+    // ✅ Batch screen all applications for a job (concurrently, per-item outcome)
+    // async=true returns 202 with a run id right away - poll GET /batch/{runId}
     @PostMapping("/batch")
-    public ResponseEntity<ApiResponse<List<ScreeningResultResponse>>> batchScreenApplications(
+    public ResponseEntity<ApiResponse<?>> batchScreenApplications(
             @Valid @RequestBody BatchScreeningRequest request,
             Authentication authentication
     ) {
@@ -86,15 +94,54 @@ public class ScreeningController {
                     .body(ApiResponse.error("You don't have permission to screen for this job"));
         }
 
+        if (request.isAsync()) {
+            BatchRunResponse run = batchScreeningRunService.startRun(
+                    request.getJobPostingId(), user, request.getConcurrency());
+            return ResponseEntity
+                    .status(HttpStatus.ACCEPTED)
+                    .body(ApiResponse.success("Batch screening started", run));
+        }
+
         // Batch screen all applications for this job
-        List<ScreeningResultResponse> results =
-                screeningService.batchScreenApplications(request.getJobPostingId(), user);
+        BatchScreeningResponse results = batchScreeningService.batchScreenApplications(
+                request.getJobPostingId(), user, request.getConcurrency());
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(ApiResponse.success("Batch screening completed", results));
     }
 
+    // ✅ Progress of an async batch screening run
+    @GetMapping("/batch/{runId}")
+    public ResponseEntity<ApiResponse<BatchRunResponse>> getBatchRun(
+            @PathVariable Long runId,
+            Authentication authentication
+    ) {
+        User user = getAuthenticatedUser(authentication);
+
+        BatchRunResponse run = batchScreeningRunService.getRun(runId);
+        if (!run.getRecruiterId().equals(user.getId())) {
+            return ResponseEntity
+                    .status(HttpStatus.FORBIDDEN)
+                    .body(ApiResponse.error("You don't have permission to view this batch run"));
+        }
+
+        return ResponseEntity.ok(ApiResponse.success(run));
+    }
+
+    // Recruiter dashboard: latest screenings across all own jobs
+    @GetMapping("/recent")
+    public ResponseEntity<ApiResponse<List<ScreeningResultResponse>>> getRecentScreenings(
+            @RequestParam(defaultValue = "20") int limit,
+            Authentication authentication
+    ) {
+        User user = getAuthenticatedUser(authentication);
+
+        List<ScreeningResultResponse> results = screeningService.getRecentScreeningsForRecruiter(user.getId(), limit);
+
+        return ResponseEntity.ok(ApiResponse.success(results));
+    }
+
     // Get screening result by ID
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ScreeningResultResponse>> getScreeningResult(
@@ -116,10 +163,12 @@ public class ScreeningController {
         return ResponseEntity.ok(ApiResponse.success(result));
     }
 
-    // Get all screening results for a job
+    // Get screening results for a job, best first, one keyset page at a time
     @GetMapping("/job/{jobId}")
-    public ResponseEntity<ApiResponse<List<ScreeningResultResponse>>> getJobScreeningResults(
+    public ResponseEntity<ApiResponse<CursorPageResponse<ScreeningResultResponse>>> getJobScreeningResults(
             @PathVariable Long jobId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
             Authentication authentication
     ) {
         User user = getAuthenticatedUser(authentication);
@@ -132,7 +181,8 @@ public class ScreeningController {
                     .body(ApiResponse.error("You don't have permission to view screening results for this job"));
         }
 
-        List<ScreeningResultResponse> results = screeningService.getScreeningResultsByJobId(jobId);
+        CursorPageResponse<ScreeningResultResponse> results =
+                screeningService.getScreeningResultsPage(jobId, cursor, limit);
 
         return ResponseEntity.ok(ApiResponse.success(results));
     }
@@ -141,6 +191,7 @@ public class ScreeningController {
     @GetMapping("/job/{jobId}/top-candidates")
     public ResponseEntity<ApiResponse<List<ScreeningResultResponse>>> getTopCandidates(
             @PathVariable Long jobId,
+            @RequestParam(defaultValue = "10") int k,
             Authentication authentication
     ) {
         User user = getAuthenticatedUser(authentication);
@@ -153,7 +204,7 @@ public class ScreeningController {
                     .body(ApiResponse.error("Access denied"));
         }
 
-        List<ScreeningResultResponse> results = screeningService.getTopCandidates(jobId);
+        List<ScreeningResultResponse> results = screeningService.getTopCandidates(jobId, k);
 
         return ResponseEntity.ok(ApiResponse.success(results));
     }
@@ -1,5 +1,6 @@
 package com.resumescreening.api.model.dto.request;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
@@ -11,4 +12,11 @@ public class BatchScreeningRequest {
 
     @NotNull(message = "Job posting ID is required")
     private Long jobPostingId;
-}
\ No newline at end of file
+
+    // Optional - lowers the per-job concurrency cap for this batch (never raises it)
+    @Min(value = 1, message = "Concurrency must be at least 1")
+    private Integer concurrency;
+
+    // true = run in the background and return 202 with a batch-run id to poll
+    private boolean async;
+}
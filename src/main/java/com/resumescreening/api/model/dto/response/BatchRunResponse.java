@@ -0,0 +1,37 @@
+package com.resumescreening.api.model.dto.response;
+
+import com.resumescreening.api.model.enums.BatchRunStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchRunResponse {
+    private Long runId;
+    private Long jobPostingId;
+    private Long recruiterId;
+    private BatchRunStatus status;
+
+    // Progress
+    private int totalApplications;
+    private int processed;
+    private int screened;
+    private int skipped;
+    private int failed;
+    private int remaining;
+
+    // Throughput of the current execution segment (since the latest start or resume), null until enough data
+    private Double throughputPerMinute;
+    private Long etaSeconds;
+
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,45 @@
+package com.resumescreening.api.model.dto.response;
+
+import com.resumescreening.api.model.enums.BatchItemOutcome;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchScreeningItemResult {
+    private Long applicationId;
+    private BatchItemOutcome outcome;
+    private Long screeningResultId;
+    private Integer matchScore;
+    private String error;
+    private Long processingTimeMs;
+
+    public static BatchScreeningItemResult screened(ScreeningResultResponse result) {
+        return BatchScreeningItemResult.builder()
+                .applicationId(result.getApplicationId())
+                .outcome(BatchItemOutcome.SCREENED)
+                .screeningResultId(result.getId())
+                .matchScore(result.getMatchScore())
+                .processingTimeMs(result.getProcessingTimeMs())
+                .build();
+    }
+
+    public static BatchScreeningItemResult skipped(Long applicationId) {
+        return BatchScreeningItemResult.builder()
+                .applicationId(applicationId)
+                .outcome(BatchItemOutcome.SKIPPED)
+                .build();
+    }
+
+    public static BatchScreeningItemResult failed(Long applicationId, String error) {
+        return BatchScreeningItemResult.builder()
+                .applicationId(applicationId)
+                .outcome(BatchItemOutcome.FAILED)
+                .error(error)
+                .build();
+    }
+}
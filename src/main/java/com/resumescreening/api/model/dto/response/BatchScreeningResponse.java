@@ -0,0 +1,28 @@
+package com.resumescreening.api.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchScreeningResponse {
+    private Long jobPostingId;
+    private int totalApplications;
+    private int screened;
+    private int skipped;
+    private int failed;
+    private int concurrency;
+    private long durationMs;
+
+    // Per-application outcome, in the same order as the job's applications
+    private List<BatchScreeningItemResult> items;
+
+    // Full results for the applications screened in this batch
+    private List<ScreeningResultResponse> results;
+}
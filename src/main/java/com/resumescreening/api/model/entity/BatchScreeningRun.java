@@ -0,0 +1,97 @@
+package com.resumescreening.api.model.entity;
+
+import com.resumescreening.api.model.enums.BatchRunStatus;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * BatchScreeningRun entity - progress of an asynchronous batch screening.
+ * Purpose:
+ * - POST /screening/batch in async mode returns the run id immediately
+ * - Workers bump the counters as each application finishes
+ * - Recruiters poll the run for processed / failed / remaining counts
+ * - A run is executed by the node holding its lease (owner + leaseExpiresAt);
+ *   the owner renews the lease while it works
+ * - QUEUED or RUNNING runs whose lease has expired (owner crashed or shut down)
+ *   are claimed and resumed by another node; already screened applications are skipped
+ * Relationships:
+ * - ManyToOne with JobPosting (the job being screened)
+ * - ManyToOne with User (the recruiter who started the run)
+ */
+@Setter
+@Getter
+@Entity
+@Table(name = "batch_screening_runs", indexes = {
+        @Index(name = "idx_batch_runs_status", columnList = "status, lease_expires_at")
+})
+@NoArgsConstructor
+public class BatchScreeningRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_posting_id", nullable = false)
+    private JobPosting jobPosting;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recruiter_id", nullable = false)
+    private User recruiter;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BatchRunStatus status = BatchRunStatus.QUEUED;
+
+    @Column
+    private Integer concurrency;  // Requested per-job cap, null = configured default
+
+    @Column(name = "total_count", nullable = false)
+    private Integer totalCount = 0;
+
+    @Column(name = "processed_count", nullable = false)
+    private Integer processedCount = 0;  // Screened + skipped + failed
+
+    @Column(name = "failed_count", nullable = false)
+    private Integer failedCount = 0;
+
+    @Column(name = "skipped_count", nullable = false)
+    private Integer skippedCount = 0;
+
+    @Column(length = 100)
+    private String owner;  // Node executing the run
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;  // Null = nobody holds the run
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    // Start of the current execution segment (first start or latest resume) and the processed count at that
+    // moment - throughput covers only work done by this segment, not earlier owners or downtime
+    @Column(name = "segment_started_at")
+    private LocalDateTime segmentStartedAt;
+
+    @Column(name = "processed_at_segment_start", nullable = false)
+    private Integer processedAtSegmentStart = 0;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
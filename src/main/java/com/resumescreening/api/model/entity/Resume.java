@@ -13,7 +13,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "resumes")
+@Table(name = "resumes", indexes = {
+        @Index(name = "idx_resumes_content_hash", columnList = "content_hash")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,6 +42,10 @@ public class Resume {
     @Column
     private Long fileSize;
 
+    // SHA-256 of the file bytes - identical uploads share storage, text and parsed data
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(columnDefinition = "jsonb")
     private String parsedData;
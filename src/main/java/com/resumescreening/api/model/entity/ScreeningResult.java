@@ -4,13 +4,18 @@ import com.resumescreening.api.model.enums.Recommendation;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "screening_results")
+// Matches the keyset order (overall_score DESC, id) so result pages are index range scans
+@Table(name = "screening_results", indexes = {
+        @Index(name = "idx_screening_results_job_score", columnList = "job_posting_id, overall_score DESC, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -46,14 +51,13 @@ public class ScreeningResult {
     @Column(name = "education_match_score")
     private Integer educationMatchScore;
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "matched_skills", joinColumns = @JoinColumn(name = "screening_result_id"))
-    @Column(name = "skill")
+    // Stored as jsonb arrays on the row itself - loading a result never needs a second select
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "matched_skills", columnDefinition = "jsonb")
     private List<String> matchedSkills = new ArrayList<>();
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    @CollectionTable(name = "missing_skills", joinColumns = @JoinColumn(name = "screening_result_id"))
-    @Column(name = "skill")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "missing_skills", columnDefinition = "jsonb")
     private List<String> missingSkills = new ArrayList<>();
 
     @Column(columnDefinition = "TEXT")
@@ -0,0 +1,7 @@
+package com.resumescreening.api.model.enums;
+
+public enum BatchItemOutcome {
+    SCREENED,   // Screened successfully in this batch
+    SKIPPED,    // Already screened earlier - nothing to do
+    FAILED      // Screening failed, see error message
+}
@@ -0,0 +1,8 @@
+package com.resumescreening.api.model.enums;
+
+public enum BatchRunStatus {
+    QUEUED,     // Accepted, waiting for a background worker
+    RUNNING,    // Applications are being screened
+    COMPLETED,  // Every application processed (some items may have failed)
+    FAILED      // Run aborted - see lastError
+}
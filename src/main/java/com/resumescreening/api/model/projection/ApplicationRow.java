@@ -0,0 +1,23 @@
+package com.resumescreening.api.model.projection;
+
+import com.resumescreening.api.model.enums.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+// Everything an ApplicationResponse lists, read in one joined select (ApplicationRepository.APPLICATION_ROW).
+// Only the resume's file name is selected - never its extracted text or parsed data
+public record ApplicationRow(
+        Long id,
+        Long jobId,
+        String jobTitle,
+        Long candidateId,
+        String candidateName,
+        String candidateEmail,
+        Long resumeId,
+        String resumeTitle,
+        ApplicationStatus status,
+        String coverLetter,
+        LocalDateTime appliedAt,
+        LocalDateTime screenedAt
+) {
+}
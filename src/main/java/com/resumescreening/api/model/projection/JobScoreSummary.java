@@ -0,0 +1,15 @@
+package com.resumescreening.api.model.projection;
+
+// Per-job score aggregates, filled by a JPQL constructor expression. Average and range are null for unscreened jobs
+public record JobScoreSummary(
+        Long jobPostingId,
+        Long screenedCount,
+        Long strongFitCount,
+        Double averageScore,
+        Integer minScore,
+        Integer maxScore
+) {
+    public static JobScoreSummary empty(Long jobPostingId) {
+        return new JobScoreSummary(jobPostingId, 0L, 0L, null, null, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.resumescreening.api.model.projection;
+
+// Score histogram bucket: 0 covers scores 0-9, ..., 9 covers 90-100
+public interface ScoreBucketRow {
+    int getBucket();
+    long getCount();
+}
@@ -0,0 +1,31 @@
+package com.resumescreening.api.model.projection;
+
+import com.resumescreening.api.model.enums.Recommendation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Everything a ScreeningResultResponse shows, read in one joined select (ScreeningResultRepository.RESULT_ROW)
+public record ScreeningResultRow(
+        Long id,
+        Long applicationId,
+        Long jobPostingId,
+        String jobTitle,
+        Long resumeId,
+        String candidateName,
+        String candidateEmail,
+        Integer matchScore,
+        Integer skillMatchScore,
+        Integer experienceMatchScore,
+        Integer educationMatchScore,
+        Recommendation recommendation,
+        List<String> matchedSkills,
+        List<String> missingSkills,
+        String strengths,
+        String weaknesses,
+        String aiAnalysis,
+        Long processingTimeMs,
+        LocalDateTime screenedAt,
+        LocalDateTime createdAt
+) {
+}
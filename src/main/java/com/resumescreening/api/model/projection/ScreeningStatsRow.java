@@ -0,0 +1,15 @@
+package com.resumescreening.api.model.projection;
+
+// One-row aggregate over a job's screening results (ScreeningResultRepository.getStatisticsByJobPostingId)
+public interface ScreeningStatsRow {
+    long getTotalScreened();
+    long getStrongFit();
+    long getGoodFit();
+    long getModerateFit();
+    long getPoorFit();
+    Double getAverageScore();   // Null when nothing was screened
+    Integer getMinScore();
+    Integer getMaxScore();
+    Double getMedianScore();
+    Double getP90Score();
+}
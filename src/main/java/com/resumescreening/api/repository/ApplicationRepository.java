@@ -2,48 +2,63 @@ package com.resumescreening.api.repository;
 
 import com.resumescreening.api.model.entity.Application;
 import com.resumescreening.api.model.enums.ApplicationStatus;
+import com.resumescreening.api.model.projection.ApplicationRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
-    @Query("SELECT a FROM Application a " +
-            "LEFT JOIN FETCH a.jobPosting " +
-            "LEFT JOIN FETCH a.candidate " +
-            "LEFT JOIN FETCH a.resume " +
-            "WHERE a.jobPosting.id = :jobPostingId")
-    List<Application> findByJobPostingId(@Param("jobPostingId") Long jobPostingId);
-
-    @Query("SELECT a FROM Application a " +
-            "LEFT JOIN FETCH a.jobPosting " +
-            "LEFT JOIN FETCH a.candidate " +
-            "LEFT JOIN FETCH a.resume " +
-            "WHERE a.jobPosting.id = :jobPostingId")
-    Page<Application> findByJobPostingId(@Param("jobPostingId") Long jobPostingId, Pageable pageable);
-
-    @Query("SELECT a FROM Application a " +
-            "LEFT JOIN FETCH a.jobPosting " +
-            "LEFT JOIN FETCH a.candidate " +
-            "LEFT JOIN FETCH a.resume " +
-            "WHERE a.candidate.id = :candidateId " +
+    // List views select rows, not entities: one statement, and the resume's TEXT/jsonb columns are never read
+    String APPLICATION_ROW = "SELECT new com.resumescreening.api.model.projection.ApplicationRow(" +
+            "a.id, j.id, j.title, c.id, c.fullName, c.email, r.id, r.fileName, " +
+            "a.status, a.coverLetter, a.appliedAt, a.screenedAt) " +
+            "FROM Application a " +
+            "JOIN a.jobPosting j " +
+            "JOIN a.candidate c " +
+            "JOIN a.resume r ";
+
+    @Query(APPLICATION_ROW +
+            "WHERE j.id = :jobPostingId " +
+            "ORDER BY a.appliedAt DESC, a.id")
+    List<ApplicationRow> findRowsByJobPostingId(@Param("jobPostingId") Long jobPostingId);
+
+    @Query(value = APPLICATION_ROW +
+            "WHERE j.id = :jobPostingId",
+            countQuery = "SELECT COUNT(a) FROM Application a WHERE a.jobPosting.id = :jobPostingId")
+    Page<ApplicationRow> findRowsByJobPostingId(@Param("jobPostingId") Long jobPostingId, Pageable pageable);
+
+    @Query(APPLICATION_ROW +
+            "WHERE c.id = :candidateId " +
             "ORDER BY a.appliedAt DESC")
-    List<Application> findByCandidateId(@Param("candidateId") Long candidateId);
+    List<ApplicationRow> findRowsByCandidateId(@Param("candidateId") Long candidateId);
 
-    @Query("SELECT a FROM Application a " +
-            "LEFT JOIN FETCH a.jobPosting " +
-            "LEFT JOIN FETCH a.candidate " +
-            "LEFT JOIN FETCH a.resume " +
-            "WHERE a.jobPosting.id = :jobPostingId AND a.status = :status")
-    List<Application> findByJobPostingIdAndStatus(@Param("jobPostingId") Long jobPostingId,
-                                                  @Param("status") ApplicationStatus status);
+    @Query(APPLICATION_ROW +
+            "WHERE j.id = :jobPostingId AND a.status = :status " +
+            "ORDER BY a.appliedAt DESC, a.id")
+    List<ApplicationRow> findRowsByJobPostingIdAndStatus(@Param("jobPostingId") Long jobPostingId,
+                                                         @Param("status") ApplicationStatus status);
 
     boolean existsByJobPostingIdAndCandidateId(Long jobPostingId, Long candidateId);
 
+    // Was this resume submitted to one of the recruiter's jobs?
+    boolean existsByResumeIdAndJobPostingUserId(Long resumeId, Long recruiterId);
+
     long countByJobPostingId(Long jobPostingId);
+
+    // Bulk update - works with detached entities handed over by batch screening workers
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :status, a.screenedAt = :screenedAt, a.updatedAt = :screenedAt " +
+            "WHERE a.id = :applicationId")
+    int updateScreeningStatus(@Param("applicationId") Long applicationId,
+                              @Param("status") ApplicationStatus status,
+                              @Param("screenedAt") LocalDateTime screenedAt);
 }
\ No newline at end of file
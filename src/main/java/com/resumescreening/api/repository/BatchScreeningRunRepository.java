@@ -0,0 +1,96 @@
+package com.resumescreening.api.repository;
+
+import com.resumescreening.api.model.entity.BatchScreeningRun;
+import com.resumescreening.api.model.enums.BatchRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BatchScreeningRunRepository extends JpaRepository<BatchScreeningRun, Long> {
+
+    // Unfinished runs that no live node holds: never claimed, released on shutdown, or the owner stopped renewing
+    @Query("SELECT r FROM BatchScreeningRun r " +
+            "WHERE r.status IN :statuses " +
+            "AND (r.leaseExpiresAt IS NULL OR r.leaseExpiresAt < :now)")
+    List<BatchScreeningRun> findClaimable(@Param("statuses") Collection<BatchRunStatus> statuses,
+                                          @Param("now") LocalDateTime now);
+
+    // Conditional update - when several nodes race for the same run, exactly one gets 1 back
+    @Transactional
+    @Modifying
+    @Query("UPDATE BatchScreeningRun r SET r.owner = :owner, r.leaseExpiresAt = :leaseExpiresAt, r.updatedAt = :now " +
+            "WHERE r.id = :runId AND r.status IN :statuses " +
+            "AND (r.leaseExpiresAt IS NULL OR r.leaseExpiresAt < :now)")
+    int claim(@Param("runId") Long runId,
+              @Param("statuses") Collection<BatchRunStatus> statuses,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    // 0 means the lease was lost to another node and this node must stop working on the run
+    @Transactional
+    @Modifying
+    @Query("UPDATE BatchScreeningRun r SET r.leaseExpiresAt = :leaseExpiresAt " +
+            "WHERE r.id = :runId AND r.owner = :owner AND r.status IN :statuses")
+    int renewLease(@Param("runId") Long runId,
+                   @Param("statuses") Collection<BatchRunStatus> statuses,
+                   @Param("owner") String owner,
+                   @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    // Lets other nodes take over at once instead of waiting for the leases to expire
+    @Transactional
+    @Modifying
+    @Query("UPDATE BatchScreeningRun r SET r.leaseExpiresAt = NULL " +
+            "WHERE r.owner = :owner AND r.status IN :statuses")
+    int releaseLeases(@Param("statuses") Collection<BatchRunStatus> statuses,
+                      @Param("owner") String owner);
+
+    // Counters are only touched through atomic updates - workers finish items concurrently.
+    // done = applications already screened, whether before the run or by an earlier owner; they count as
+    // processed, and as skipped only on the first start. Failures are retried, so failedCount restarts at 0.
+    // Every start or resume opens a new throughput segment at (now, done)
+    @Transactional
+    @Modifying
+    @Query("UPDATE BatchScreeningRun r SET r.status = :status, " +
+            "r.skippedCount = CASE WHEN r.startedAt IS NULL THEN :done ELSE r.skippedCount END, " +
+            "r.startedAt = COALESCE(r.startedAt, :now), " +
+            "r.segmentStartedAt = :now, r.processedAtSegmentStart = :done, " +
+            "r.totalCount = :totalCount, r.processedCount = :done, r.failedCount = 0, " +
+            "r.lastError = NULL, r.updatedAt = :now WHERE r.id = :runId AND r.owner = :owner")
+    int markStarted(@Param("runId") Long runId,
+                    @Param("owner") String owner,
+                    @Param("status") BatchRunStatus status,
+                    @Param("totalCount") Integer totalCount,
+                    @Param("done") Integer done,
+                    @Param("now") LocalDateTime now);
+
+    // Ignored once another node owns the run, so a node that lost its lease cannot double count
+    @Transactional
+    @Modifying
+    @Query("UPDATE BatchScreeningRun r SET r.processedCount = r.processedCount + 1, " +
+            "r.failedCount = r.failedCount + :failed, r.skippedCount = r.skippedCount + :skipped " +
+            "WHERE r.id = :runId AND r.owner = :owner")
+    int recordItem(@Param("runId") Long runId,
+                   @Param("owner") String owner,
+                   @Param("failed") int failed,
+                   @Param("skipped") int skipped);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE BatchScreeningRun r SET r.status = :status, r.completedAt = :completedAt, " +
+            "r.lastError = :lastError, r.leaseExpiresAt = NULL, r.updatedAt = :completedAt " +
+            "WHERE r.id = :runId AND r.owner = :owner")
+    int markFinished(@Param("runId") Long runId,
+                     @Param("owner") String owner,
+                     @Param("status") BatchRunStatus status,
+                     @Param("completedAt") LocalDateTime completedAt,
+                     @Param("lastError") String lastError);
+}
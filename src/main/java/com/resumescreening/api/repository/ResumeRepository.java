@@ -17,4 +17,13 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     Optional<Resume> findByIdWithUser(@Param("id") Long id);
 
     long countByUserId(Long userId);
+
+    // Latest resume with the same bytes, preferring one that was parsed successfully
+    @Query("SELECT r FROM Resume r WHERE r.contentHash = :contentHash " +
+            "ORDER BY CASE WHEN r.parsedData IS NULL THEN 1 ELSE 0 END, r.id DESC " +
+            "LIMIT 1")
+    Optional<Resume> findReusableByContentHash(@Param("contentHash") String contentHash);
+
+    // Stored files can be shared by de-duplicated resumes
+    long countByFilePath(String filePath);
 }
\ No newline at end of file
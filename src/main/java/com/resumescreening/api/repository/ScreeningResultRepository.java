@@ -2,17 +2,61 @@ package com.resumescreening.api.repository;
 
 import com.resumescreening.api.model.entity.ScreeningResult;
 import com.resumescreening.api.model.enums.Recommendation;
+import com.resumescreening.api.model.projection.JobScoreSummary;
+import com.resumescreening.api.model.projection.ScoreBucketRow;
+import com.resumescreening.api.model.projection.ScreeningResultRow;
+import com.resumescreening.api.model.projection.ScreeningStatsRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ScreeningResultRepository extends JpaRepository<ScreeningResult, Long> {
 
+    // List views select rows, not entities: one statement, no lazy loads of application, candidate or job
+    String RESULT_ROW = "SELECT new com.resumescreening.api.model.projection.ScreeningResultRow(" +
+            "sr.id, a.id, j.id, j.title, a.resume.id, c.fullName, c.email, " +
+            "sr.matchScore, sr.skillMatchScore, sr.experienceMatchScore, sr.educationMatchScore, " +
+            "sr.recommendation, sr.matchedSkills, sr.missingSkills, " +
+            "sr.strengths, sr.weaknesses, sr.aiAnalysis, sr.processingTimeMs, a.screenedAt, sr.createdAt) " +
+            "FROM ScreeningResult sr " +
+            "JOIN sr.application a " +
+            "JOIN a.candidate c " +
+            "JOIN sr.jobPosting j ";
+
+    // Keyset pages over idx_screening_results_job_score: the first page, or a top-K list
+    @Query(RESULT_ROW +
+            "WHERE j.id = :jobId " +
+            "ORDER BY sr.matchScore DESC, sr.id")
+    List<ScreeningResultRow> findTopRowsByJobPostingId(@Param("jobId") Long jobId, Limit limit);
+
+    // Following pages seek past the last (score, id) seen instead of skipping OFFSET rows
+    @Query(RESULT_ROW +
+            "WHERE j.id = :jobId " +
+            "AND (sr.matchScore < :score OR (sr.matchScore = :score AND sr.id > :id)) " +
+            "ORDER BY sr.matchScore DESC, sr.id")
+    List<ScreeningResultRow> findRowsByJobPostingIdAfter(
+            @Param("jobId") Long jobId,
+            @Param("score") Integer score,
+            @Param("id") Long id,
+            Limit limit
+    );
+
+    @Query(RESULT_ROW +
+            "WHERE j.id = :jobId " +
+            "AND sr.recommendation = :recommendation " +
+            "ORDER BY sr.matchScore DESC, sr.id")
+    List<ScreeningResultRow> findRowsByJobPostingIdAndRecommendation(
+            @Param("jobId") Long jobId,
+            @Param("recommendation") Recommendation recommendation
+    );
+
     // Fix: Add JOIN FETCH for collections
     @Query("SELECT sr FROM ScreeningResult sr " +
             "LEFT JOIN FETCH sr.application " +
@@ -42,6 +86,29 @@ public interface ScreeningResultRepository extends JpaRepository<ScreeningResult
     @Query("SELECT COUNT(sr) FROM ScreeningResult sr WHERE sr.application.jobPosting.id = :jobId")
     long countByJobPostingId(@Param("jobId") Long jobId);
 
+    @Query("SELECT COUNT(sr) FROM ScreeningResult sr " +
+            "WHERE sr.jobPosting.id = :jobId " +
+            "AND sr.recommendation = :recommendation")
+    long countByJobPostingIdAndRecommendation(
+            @Param("jobId") Long jobId,
+            @Param("recommendation") Recommendation recommendation
+    );
+
+    // Null when the job has no screening results
+    @Query("SELECT AVG(sr.matchScore) FROM ScreeningResult sr WHERE sr.jobPosting.id = :jobId")
+    Double getAverageScoreByJobPostingId(@Param("jobId") Long jobId);
+
+    // One grouped row per job that has results - dashboards fetch all their jobs in a single query
+    @Query("SELECT new com.resumescreening.api.model.projection.JobScoreSummary(" +
+            "sr.jobPosting.id, COUNT(sr), " +
+            "SUM(CASE WHEN sr.recommendation = com.resumescreening.api.model.enums.Recommendation.STRONG_FIT " +
+            "THEN 1L ELSE 0L END), " +
+            "AVG(sr.matchScore), MIN(sr.matchScore), MAX(sr.matchScore)) " +
+            "FROM ScreeningResult sr " +
+            "WHERE sr.jobPosting.id IN :jobIds " +
+            "GROUP BY sr.jobPosting.id")
+    List<JobScoreSummary> findScoreSummariesByJobPostingIds(@Param("jobIds") Collection<Long> jobIds);
+
     @Query("SELECT sr FROM ScreeningResult sr " +
             "LEFT JOIN FETCH sr.application " +
             "LEFT JOIN FETCH sr.jobPosting " +
@@ -60,26 +127,40 @@ public interface ScreeningResultRepository extends JpaRepository<ScreeningResult
             @Param("minScore") Integer minScore
     );
 
-    @Query("SELECT " +
-            "COUNT(sr), " +
-            "AVG(sr.matchScore), " +
-            "MAX(sr.matchScore), " +
-            "MIN(sr.matchScore) " +
-            "FROM ScreeningResult sr " +
-            "WHERE sr.application.jobPosting.id = :jobId")
-    Object[] getStatisticsByJobPostingId(@Param("jobId") Long jobId);
+    // Counts, average, range and percentiles in one pass over the job's rows - no entities are loaded
+    @Query(value = "SELECT " +
+            "COUNT(*) AS \"totalScreened\", " +
+            "COUNT(*) FILTER (WHERE recommendation = 'STRONG_FIT') AS \"strongFit\", " +
+            "COUNT(*) FILTER (WHERE recommendation = 'GOOD_FIT') AS \"goodFit\", " +
+            "COUNT(*) FILTER (WHERE recommendation = 'MODERATE_FIT') AS \"moderateFit\", " +
+            "COUNT(*) FILTER (WHERE recommendation = 'POOR_FIT') AS \"poorFit\", " +
+            "CAST(AVG(overall_score) AS double precision) AS \"averageScore\", " +
+            "MIN(overall_score) AS \"minScore\", " +
+            "MAX(overall_score) AS \"maxScore\", " +
+            "percentile_cont(0.5) WITHIN GROUP (ORDER BY overall_score) AS \"medianScore\", " +
+            "percentile_cont(0.9) WITHIN GROUP (ORDER BY overall_score) AS \"p90Score\" " +
+            "FROM screening_results " +
+            "WHERE job_posting_id = :jobId",
+            nativeQuery = true)
+    ScreeningStatsRow getStatisticsByJobPostingId(@Param("jobId") Long jobId);
 
-    @Query("SELECT sr FROM ScreeningResult sr " +
-            "LEFT JOIN FETCH sr.application " +
-            "LEFT JOIN FETCH sr.jobPosting " +
-            "WHERE sr.application.candidate.id = :candidateId " +
-            "ORDER BY sr.createdAt DESC")
-    List<ScreeningResult> findByCandidateId(@Param("candidateId") Long candidateId);
+    // Ten buckets of ten points; 100 falls into the last one. Empty buckets are not returned
+    @Query(value = "SELECT LEAST(overall_score / 10, 9) AS \"bucket\", COUNT(*) AS \"count\" " +
+            "FROM screening_results " +
+            "WHERE job_posting_id = :jobId " +
+            "GROUP BY 1 " +
+            "ORDER BY 1",
+            nativeQuery = true)
+    List<ScoreBucketRow> getScoreHistogramByJobPostingId(@Param("jobId") Long jobId);
 
-    @Query("SELECT sr FROM ScreeningResult sr " +
-            "LEFT JOIN FETCH sr.application " +
-            "LEFT JOIN FETCH sr.jobPosting " +
-            "WHERE sr.application.jobPosting.user.id = :recruiterId " +
+    @Query(RESULT_ROW +
+            "WHERE c.id = :candidateId " +
             "ORDER BY sr.createdAt DESC")
-    List<ScreeningResult> findByRecruiterId(@Param("recruiterId") Long recruiterId);
+    List<ScreeningResultRow> findRowsByCandidateId(@Param("candidateId") Long candidateId);
+
+    // Recruiter dashboard: latest screenings across all of the recruiter's jobs
+    @Query(RESULT_ROW +
+            "WHERE j.user.id = :recruiterId " +
+            "ORDER BY sr.createdAt DESC, sr.id DESC")
+    List<ScreeningResultRow> findRowsByRecruiterId(@Param("recruiterId") Long recruiterId, Limit limit);
 }
\ No newline at end of file
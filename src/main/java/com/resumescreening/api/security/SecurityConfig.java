@@ -2,6 +2,7 @@ package com.resumescreening.api.security;
 
 import com.resumescreening.api.security.jwt.JwtAuthenticationEntryPoint;
 import com.resumescreening.api.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -41,6 +42,10 @@ public class SecurityConfig {
     @Value("${cors.allowed-origins}")
     private String allowedOrigins;
 
+    // Separate actuator port (not exposed publicly); null when actuator shares the API port
+    @Value("${management.server.port:}")
+    private Integer managementPort;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder(12); // ✅ Strength 12 for better security
@@ -107,7 +112,11 @@ public class SecurityConfig {
                         // Public endpoints
                         .requestMatchers("/api/v1/auth/register", "/api/v1/auth/login").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**").permitAll()
-                        .requestMatchers("/actuator/**").permitAll()
+                        .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+
+                        // Metrics only on the management port, never on the public API port
+                        .requestMatchers(this::isManagementPort).permitAll()
+                        .requestMatchers("/actuator/**").denyAll()
 
                         // Job endpoints - view only for public
                         .requestMatchers(HttpMethod.GET, "/api/v1/jobs").permitAll()
@@ -146,4 +155,8 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    private boolean isManagementPort(HttpServletRequest request) {
+        return managementPort != null && managementPort > 0 && request.getLocalPort() == managementPort;
+    }
 }
\ No newline at end of file
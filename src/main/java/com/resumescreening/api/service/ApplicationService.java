@@ -36,10 +36,7 @@ public class ApplicationService {
     private final ResumeService resumeService;
 
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "candidateApplications", key = "#candidate.id"),
-            @CacheEvict(value = "jobApplications", key = "#jobId")
-    })
+    @CacheEvict(value = "candidateApplications", key = "#candidate.id")
     public ApplicationResponse applyToJob(Long jobId, Long resumeId, String coverLetter, User candidate) {
         JobPostingResponse job = jobPostingService.getJobById(jobId);
         if (!job.getIsActive()) {
@@ -83,8 +80,7 @@ public class ApplicationService {
         if (!job.getRecruiterId().equals(recruiter.getId())) {
             throw new UnauthorizedException("You can only view applications for your own jobs");
         }
-        List<Application> applications = applicationRepository.findByJobPostingId(jobId);
-        return applications.stream()
+        return applicationRepository.findRowsByJobPostingId(jobId).stream()
                 .map(DtoMapper::toApplicationResponse)
                 .toList();
     }
@@ -96,15 +92,14 @@ public class ApplicationService {
         if (!job.getRecruiterId().equals(recruiter.getId())) {
             throw new UnauthorizedException("You can only view applications for your own jobs");
         }
-        Page<Application> applicationPage = applicationRepository.findByJobPostingId(jobId, pageable);
-        return applicationPage.map(DtoMapper::toApplicationResponse);
+        return applicationRepository.findRowsByJobPostingId(jobId, pageable)
+                .map(DtoMapper::toApplicationResponse);
     }
 
     @Cacheable(value = "candidateApplications", key = "#candidate.id")
     @Transactional(readOnly = true)
     public List<ApplicationResponse> getMyCandidateApplications(User candidate) {
-        List<Application> applications = applicationRepository.findByCandidateId(candidate.getId());
-        return applications.stream()
+        return applicationRepository.findRowsByCandidateId(candidate.getId()).stream()
                 .map(DtoMapper::toApplicationResponse)
                 .toList();
     }
@@ -133,8 +128,7 @@ public class ApplicationService {
     @Transactional
     @Caching(evict = {
             @CacheEvict(value = "applications", key = "#applicationId"),
-            @CacheEvict(value = "candidateApplications", allEntries = true),
-            @CacheEvict(value = "jobApplications", allEntries = true)
+            @CacheEvict(value = "candidateApplications", key = "#result.candidateId")
     })
     public ApplicationResponse updateApplicationStatus(Long applicationId, ApplicationStatus status, User recruiter) {
         Application application = getApplicationEntityById(applicationId);
@@ -153,6 +147,20 @@ public class ApplicationService {
         return DtoMapper.toApplicationResponse(updatedApplication);
     }
 
+    // Called by screening once a result is saved - joins the caller's transaction
+    @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = "applications", key = "#application.id"),
+            @CacheEvict(value = "candidateApplications", key = "#application.candidate.id")
+    })
+    public void markAsScreened(Application application) {
+        LocalDateTime screenedAt = LocalDateTime.now();
+        applicationRepository.updateScreeningStatus(application.getId(), ApplicationStatus.UNDER_REVIEW, screenedAt);
+
+        application.setStatus(ApplicationStatus.UNDER_REVIEW);
+        application.setScreenedAt(screenedAt);
+    }
+
     @Transactional
     @Caching(evict = {
             @CacheEvict(value = "applications", key = "#applicationId"),
@@ -183,8 +191,7 @@ public class ApplicationService {
             throw new UnauthorizedException("You can only view applications for your own jobs");
         }
 
-        List<Application> applications = applicationRepository.findByJobPostingIdAndStatus(jobId, status);
-        return applications.stream()
+        return applicationRepository.findRowsByJobPostingIdAndStatus(jobId, status).stream()
                 .map(DtoMapper::toApplicationResponse)
                 .toList();
     }
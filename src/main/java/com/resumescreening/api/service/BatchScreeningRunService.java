@@ -0,0 +1,210 @@
+package com.resumescreening.api.service;
+
+import com.resumescreening.api.exception.ResourceNotFoundException;
+import com.resumescreening.api.model.dto.response.ApplicationResponse;
+import com.resumescreening.api.model.dto.response.BatchRunResponse;
+import com.resumescreening.api.model.entity.BatchScreeningRun;
+import com.resumescreening.api.model.entity.JobPosting;
+import com.resumescreening.api.model.entity.User;
+import com.resumescreening.api.model.enums.BatchItemOutcome;
+import com.resumescreening.api.model.enums.BatchRunStatus;
+import com.resumescreening.api.repository.BatchScreeningRunRepository;
+import com.resumescreening.api.util.DtoMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs batch screenings in the background and persists their progress.
+ * - startRun() saves a QUEUED run and returns at once; a virtual thread drives the batch
+ * - Counters are bumped per finished application, so polling shows live progress
+ * - The node executing a run holds a lease on it and renews it every lease-ttl / 3;
+ *   counters only move while the lease is held
+ * - Every node periodically claims unfinished runs whose lease has expired (owner crashed or
+ *   shut down) and resumes them; a run another live node is working on is never touched
+ */
+@Service
+@Slf4j
+public class BatchScreeningRunService {
+
+    private static final List<BatchRunStatus> UNFINISHED_STATUSES =
+            List.of(BatchRunStatus.QUEUED, BatchRunStatus.RUNNING);
+
+    private final BatchScreeningRunRepository runRepository;
+    private final BatchScreeningService batchScreeningService;
+    private final ApplicationService applicationService;
+    private final JobPostingService jobPostingService;
+    private final UserService userService;
+    private final String nodeId;
+    private final Duration leaseTtl;
+    private final ExecutorService coordinators = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService leaseKeeper =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("batch-lease-keeper").daemon().factory());
+    private final Map<Long, Future<?>> activeRuns = new ConcurrentHashMap<>();
+
+    public BatchScreeningRunService(BatchScreeningRunRepository runRepository,
+                                    BatchScreeningService batchScreeningService,
+                                    ApplicationService applicationService,
+                                    JobPostingService jobPostingService,
+                                    UserService userService,
+                                    @Value("${screening.batch.node-id:}") String nodeId,
+                                    @Value("${screening.batch.lease-ttl:2m}") Duration leaseTtl) {
+        this.runRepository = runRepository;
+        this.batchScreeningService = batchScreeningService;
+        this.applicationService = applicationService;
+        this.jobPostingService = jobPostingService;
+        this.userService = userService;
+        // Unique per process, so a restarted node does not mistake its old leases for live ones
+        this.nodeId = (nodeId.isBlank() ? hostName() : nodeId) + "-" + UUID.randomUUID().toString().substring(0, 8);
+        this.leaseTtl = leaseTtl;
+    }
+
+    // Not transactional on purpose - the run row must be committed before the worker looks for it
+    public BatchRunResponse startRun(Long jobId, User recruiter, Integer concurrency) {
+        JobPosting job = jobPostingService.getJobEntityById(jobId);
+
+        // Created already leased to this node, so no other node picks it up before it starts
+        BatchScreeningRun run = new BatchScreeningRun();
+        run.setJobPosting(job);
+        run.setRecruiter(recruiter);
+        run.setStatus(BatchRunStatus.QUEUED);
+        run.setConcurrency(concurrency);
+        run.setTotalCount((int) applicationService.countApplicationsForJob(jobId));
+        run.setOwner(nodeId);
+        run.setLeaseExpiresAt(LocalDateTime.now().plus(leaseTtl));
+        run = runRepository.save(run);
+
+        log.info("Batch screening run {} queued for job {} by recruiter {}", run.getId(), jobId, recruiter.getId());
+        submit(run.getId(), jobId, recruiter.getId(), concurrency);
+        return DtoMapper.toBatchRunResponse(run);
+    }
+
+    @Transactional(readOnly = true)
+    public BatchRunResponse getRun(Long runId) {
+        BatchScreeningRun run = runRepository.findById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("Batch screening run not found: " + runId));
+        return DtoMapper.toBatchRunResponse(run);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startLeaseKeeper() {
+        long periodMs = Math.max(leaseTtl.toMillis() / 3, 1000);
+        leaseKeeper.scheduleWithFixedDelay(this::maintainLeases, 0, periodMs, TimeUnit.MILLISECONDS);
+    }
+
+    void maintainLeases() {
+        try {
+            renewLeases();
+            resumeUnfinishedRuns();
+        } catch (Exception e) {
+            // Keep the schedule alive; an unrenewed lease only lets another node take the run over
+            log.warn("Batch run lease maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    private void renewLeases() {
+        LocalDateTime leaseExpiresAt = LocalDateTime.now().plus(leaseTtl);
+        activeRuns.forEach((runId, future) -> {
+            if (future.isDone()) {
+                activeRuns.remove(runId, future);
+            } else if (runRepository.renewLease(runId, UNFINISHED_STATUSES, nodeId, leaseExpiresAt) == 0) {
+                log.warn("Lost the lease on batch screening run {}, stopping it here", runId);
+                future.cancel(true);
+            }
+        });
+    }
+
+    // Pick up runs whose owner has gone away - already screened applications are not screened again
+    private void resumeUnfinishedRuns() {
+        LocalDateTime now = LocalDateTime.now();
+        for (BatchScreeningRun run : runRepository.findClaimable(UNFINISHED_STATUSES, now)) {
+            // Our own lease lapsed (e.g. a long GC pause) while the run is still going here - renewal picks it up
+            if (activeRuns.containsKey(run.getId())) {
+                continue;
+            }
+            if (runRepository.claim(run.getId(), UNFINISHED_STATUSES, nodeId, now, now.plus(leaseTtl)) == 0) {
+                continue; // Another node was faster
+            }
+            log.info("Resuming batch screening run {} for job {}", run.getId(), run.getJobPosting().getId());
+            submit(run.getId(), run.getJobPosting().getId(), run.getRecruiter().getId(), run.getConcurrency());
+        }
+    }
+
+    private void submit(Long runId, Long jobId, Long recruiterId, Integer concurrency) {
+        activeRuns.put(runId, coordinators.submit(() -> execute(runId, jobId, recruiterId, concurrency)));
+    }
+
+    private void execute(Long runId, Long jobId, Long recruiterId, Integer concurrency) {
+        try {
+            User recruiter = userService.getUserById(recruiterId);
+            List<ApplicationResponse> applications = applicationService.getApplicationsForJob(jobId, recruiter);
+            List<Long> pending = applications.stream()
+                    .filter(application -> application.getScreenedAt() == null)
+                    .map(ApplicationResponse::getId)
+                    .toList();
+
+            int done = applications.size() - pending.size();
+            if (runRepository.markStarted(runId, nodeId, BatchRunStatus.RUNNING, applications.size(), done,
+                    LocalDateTime.now()) == 0) {
+                log.warn("Batch screening run {} is owned by another node, not starting it here", runId);
+                return;
+            }
+            log.info("Batch screening run {} started: {} applications, {} already screened",
+                    runId, applications.size(), done);
+
+            batchScreeningService.screenApplications(pending, concurrency, item ->
+                    runRepository.recordItem(runId, nodeId,
+                            item.getOutcome() == BatchItemOutcome.FAILED ? 1 : 0,
+                            item.getOutcome() == BatchItemOutcome.SKIPPED ? 1 : 0));
+
+            // Shutting down or lease lost - leave the run RUNNING for whichever node claims it next
+            if (Thread.currentThread().isInterrupted()) {
+                log.warn("Batch screening run {} interrupted, another node or the next start will resume it", runId);
+                return;
+            }
+            runRepository.markFinished(runId, nodeId, BatchRunStatus.COMPLETED, LocalDateTime.now(), null);
+            log.info("Batch screening run {} completed", runId);
+
+        } catch (Exception e) {
+            log.error("Batch screening run {} failed: {}", runId, e.getMessage(), e);
+            runRepository.markFinished(runId, nodeId, BatchRunStatus.FAILED, LocalDateTime.now(), e.getMessage());
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "node";
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseKeeper.shutdownNow();
+        coordinators.shutdownNow();
+        try {
+            runRepository.releaseLeases(UNFINISHED_STATUSES, nodeId);
+        } catch (Exception e) {
+            log.warn("Could not release batch run leases, they expire in {}: {}", leaseTtl, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.resumescreening.api.service;
+
+import com.resumescreening.api.model.dto.response.ApplicationResponse;
+import com.resumescreening.api.model.dto.response.BatchScreeningItemResult;
+import com.resumescreening.api.model.dto.response.BatchScreeningResponse;
+import com.resumescreening.api.model.dto.response.ScreeningResultResponse;
+import com.resumescreening.api.model.entity.Application;
+import com.resumescreening.api.model.entity.User;
+import com.resumescreening.api.model.enums.BatchItemOutcome;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+/**
+ * Screens all applications of a job concurrently.
+ * - Every application runs on its own virtual thread; the thread mostly waits on the LLM,
+ *   so blocking is cheap and needs no reactive plumbing
+ * - A per-job semaphore caps how many applications of one batch are in flight
+ * - A global semaphore caps in-flight LLM calls across all batches on this node
+ * - Each result is committed in its own short transaction by ScreeningService,
+ *   so one failure never rolls back the rest of the batch
+ */
+@Service
+@Slf4j
+public class BatchScreeningService {
+
+    private final ScreeningService screeningService;
+    private final ApplicationService applicationService;
+    private final Semaphore globalPermits;
+    private final int perJobConcurrency;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BatchScreeningService(ScreeningService screeningService,
+                                 ApplicationService applicationService,
+                                 @Value("${screening.batch.global-concurrency:32}") int globalConcurrency,
+                                 @Value("${screening.batch.per-job-concurrency:8}") int perJobConcurrency) {
+        this.screeningService = screeningService;
+        this.applicationService = applicationService;
+        this.globalPermits = new Semaphore(globalConcurrency, true);
+        this.perJobConcurrency = perJobConcurrency;
+    }
+
+    // Batch screen all applications for a job
+    public BatchScreeningResponse batchScreenApplications(Long jobId, User recruiter, Integer requestedConcurrency) {
+        long startTime = System.currentTimeMillis();
+
+        // Also validates that the recruiter owns the job
+        List<Long> applicationIds = applicationService.getApplicationsForJob(jobId, recruiter).stream()
+                .map(ApplicationResponse::getId)
+                .toList();
+        int concurrency = resolveConcurrency(requestedConcurrency);
+
+        log.info("Batch screening {} applications for job {} (concurrency {})",
+                applicationIds.size(), jobId, concurrency);
+
+        List<ItemOutcome> outcomes = screenAll(applicationIds, concurrency, item -> { });
+
+        List<BatchScreeningItemResult> items = outcomes.stream().map(ItemOutcome::item).toList();
+        List<ScreeningResultResponse> results = outcomes.stream()
+                .map(ItemOutcome::result)
+                .filter(Objects::nonNull)
+                .toList();
+
+        BatchScreeningResponse response = BatchScreeningResponse.builder()
+                .jobPostingId(jobId)
+                .totalApplications(applicationIds.size())
+                .screened(count(items, BatchItemOutcome.SCREENED))
+                .skipped(count(items, BatchItemOutcome.SKIPPED))
+                .failed(count(items, BatchItemOutcome.FAILED))
+                .concurrency(concurrency)
+                .durationMs(System.currentTimeMillis() - startTime)
+                .items(items)
+                .results(results)
+                .build();
+
+        log.info("Batch screening completed for job {}: screened={}, skipped={}, failed={}, time={}ms",
+                jobId, response.getScreened(), response.getSkipped(), response.getFailed(), response.getDurationMs());
+        return response;
+    }
+
+    // Used by background batch runs - the listener is called from worker threads as items finish
+    public List<BatchScreeningItemResult> screenApplications(List<Long> applicationIds,
+                                                             Integer requestedConcurrency,
+                                                             Consumer<BatchScreeningItemResult> onItemCompleted) {
+        return screenAll(applicationIds, resolveConcurrency(requestedConcurrency), onItemCompleted).stream()
+                .map(ItemOutcome::item)
+                .toList();
+    }
+
+    // Fan out one virtual thread per application and wait for all of them, keeping input order
+    private List<ItemOutcome> screenAll(List<Long> applicationIds, int concurrency,
+                                        Consumer<BatchScreeningItemResult> onItemCompleted) {
+        Semaphore jobPermits = new Semaphore(concurrency, true);
+
+        List<Future<ItemOutcome>> futures = new ArrayList<>(applicationIds.size());
+        for (Long applicationId : applicationIds) {
+            futures.add(workers.submit(() -> {
+                ItemOutcome outcome = screenWithPermits(applicationId, jobPermits);
+                notifyListener(onItemCompleted, outcome.item());
+                return outcome;
+            }));
+        }
+
+        List<ItemOutcome> outcomes = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            Long applicationId = applicationIds.get(i);
+            try {
+                outcomes.add(futures.get(i).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // Stop the applications not screened yet - the run is shutting down or now belongs to another node
+                futures.subList(i, futures.size()).forEach(future -> future.cancel(true));
+                outcomes.add(ItemOutcome.failed(applicationId, "Batch screening was interrupted"));
+            } catch (CancellationException e) {
+                outcomes.add(ItemOutcome.failed(applicationId, "Batch screening was interrupted"));
+            } catch (ExecutionException e) {
+                outcomes.add(ItemOutcome.failed(applicationId, rootMessage(e)));
+            }
+        }
+        return outcomes;
+    }
+
+    // Per-job permit first, then global permit - always in this order so batches cannot deadlock
+    private ItemOutcome screenWithPermits(Long applicationId, Semaphore jobPermits) throws InterruptedException {
+        jobPermits.acquire();
+        try {
+            globalPermits.acquire();
+            try {
+                return screenOne(applicationId);
+            } finally {
+                globalPermits.release();
+            }
+        } finally {
+            jobPermits.release();
+        }
+    }
+
+    private ItemOutcome screenOne(Long applicationId) {
+        try {
+            if (screeningService.applicationAlreadyScreened(applicationId)) {
+                log.info("Skipping already screened application: {}", applicationId);
+                return new ItemOutcome(BatchScreeningItemResult.skipped(applicationId), null);
+            }
+            Application application = applicationService.getApplicationEntityById(applicationId);
+            ScreeningResultResponse result = screeningService.screenApplication(application);
+            return new ItemOutcome(BatchScreeningItemResult.screened(result), result);
+        } catch (Exception e) {
+            log.error("Error screening application {}: {}", applicationId, rootMessage(e));
+            return ItemOutcome.failed(applicationId, rootMessage(e));
+        }
+    }
+
+    // A broken progress listener must never fail the screening itself
+    private void notifyListener(Consumer<BatchScreeningItemResult> onItemCompleted, BatchScreeningItemResult item) {
+        try {
+            onItemCompleted.accept(item);
+        } catch (Exception e) {
+            log.warn("Batch progress listener failed for application {}: {}", item.getApplicationId(), e.getMessage());
+        }
+    }
+
+    private int resolveConcurrency(Integer requestedConcurrency) {
+        if (requestedConcurrency == null || requestedConcurrency > perJobConcurrency) {
+            return perJobConcurrency;
+        }
+        return requestedConcurrency;
+    }
+
+    private int count(List<BatchScreeningItemResult> items, BatchItemOutcome outcome) {
+        return (int) items.stream().filter(item -> item.getOutcome() == outcome).count();
+    }
+
+    private String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private record ItemOutcome(BatchScreeningItemResult item, ScreeningResultResponse result) {
+        static ItemOutcome failed(Long applicationId, String error) {
+            return new ItemOutcome(BatchScreeningItemResult.failed(applicationId, error), null);
+        }
+    }
+}
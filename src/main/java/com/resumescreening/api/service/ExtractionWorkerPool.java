@@ -0,0 +1,103 @@
+package com.resumescreening.api.service;
+
+import com.resumescreening.api.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounded worker pool for CPU-heavy text extraction (PDFBox, DOCX parsing).
+ * - CPU-sized threads and a bounded queue, so a burst of large uploads cannot starve request threads
+ * - A full queue fails fast with ServiceBusyException (503 + Retry-After) instead of piling up latency
+ * - Exposes queue depth, wait time, service time and rejections as metrics
+ */
+@Service
+@Slf4j
+public class ExtractionWorkerPool {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration retryAfter;
+
+    private final Timer waitTimer;
+    private final Timer serviceTimer;
+    private final Counter rejections;
+
+    public ExtractionWorkerPool(MeterRegistry meterRegistry,
+                                @Value("${text-extraction.workers.threads:0}") int threads,
+                                @Value("${text-extraction.workers.queue-capacity:32}") int queueCapacity,
+                                @Value("${text-extraction.workers.retry-after:5s}") Duration retryAfter) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "extraction-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfter = retryAfter;
+
+        Gauge.builder("extraction.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Extraction tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("extraction.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Extraction tasks currently running")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("extraction.wait")
+                .description("Time an extraction task spent queued")
+                .register(meterRegistry);
+        this.serviceTimer = Timer.builder("extraction.service")
+                .description("Time spent extracting text")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("extraction.rejected")
+                .description("Extraction tasks rejected because the queue was full")
+                .register(meterRegistry);
+
+        log.info("Extraction worker pool: {} threads, queue capacity {}", poolSize, queueCapacity);
+    }
+
+    // Throws ServiceBusyException right away when the queue is full
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        long enqueuedAt = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    serviceTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            log.warn("Extraction queue full ({} waiting), rejecting task", executor.getQueue().size());
+            throw new ServiceBusyException("Server is busy processing other uploads, please retry shortly", retryAfter);
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
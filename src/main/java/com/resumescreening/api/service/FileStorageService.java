@@ -1,50 +1,98 @@
 package com.resumescreening.api.service;
 
 import com.resumescreening.api.exception.FileStorageException;
+import com.resumescreening.api.util.HashUtils;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class FileStorageService {
 
-    private final S3Service s3Service;
+    private final StorageService storageService;
     private final FileValidationService validationService;
     private final TextExtractionService textExtractionService;
+    private final ExtractionWorkerPool extractionWorkerPool;
+    private final ExecutorService uploadWorkers = Executors.newVirtualThreadPerTaskExecutor();
 
-    // Store resume file
-    public FileUploadResult storeResume(MultipartFile file) {
+    // Validate the upload and copy it to a temp file, hashing the bytes on the way.
+    // This is the only read of the multipart stream - everything after works from the temp file
+    public SpooledUpload spool(MultipartFile file) {
+        validationService.validateFile(file);
+
+        Path tempFile = null;
         try {
-            // Validate file & Upload to S3
-            validationService.validateFile(file);
-            String fileUrl = s3Service.uploadFile(file, "resumes");
-
-            // Extract text & Return result
-            String extractedText = textExtractionService.extractText(file);
-            return FileUploadResult.builder()
-                    .fileName(file.getOriginalFilename())
-                    .fileUrl(fileUrl)
-                    .fileSize(file.getSize())
-                    .fileType(file.getContentType())
-                    .extractedText(extractedText)
-                    .build();
+            tempFile = Files.createTempFile("upload-", ".tmp");
+            MessageDigest digest = HashUtils.newSha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new SpooledUpload(tempFile, file.getOriginalFilename(), file.getContentType(),
+                    Files.size(tempFile), HexFormat.of().formatHex(digest.digest()));
 
         } catch (IOException e) {
-            log.error("Error storing resume: {}", e.getMessage());
-            throw new FileStorageException("Failed to store resume file", e);
+            deleteQuietly(tempFile);
+            log.error("Error reading resume upload: {}", e.getMessage());
+            throw new FileStorageException("Failed to read resume file", e);
+        }
+    }
+
+    // Store resume file
+    public FileUploadResult storeResume(MultipartFile file) {
+        try (SpooledUpload upload = spool(file)) {
+            return storeResume(upload);
+        }
+    }
+
+    // Upload to S3 and extract text concurrently - latency is max(upload, extract), not the sum.
+    // Extraction is queued first: when the worker pool is full we fail before uploading anything
+    public FileUploadResult storeResume(SpooledUpload upload) {
+        CompletableFuture<String> extractedText = extractionWorkerPool.submit(
+                () -> textExtractionService.extractText(upload.path(), upload.contentType()));
+        CompletableFuture<String> fileUrl = CompletableFuture.supplyAsync(
+                () -> storageService.store(upload.path(), upload.fileName(), upload.contentType(), "resumes"),
+                uploadWorkers);
+
+        try {
+            CompletableFuture.allOf(fileUrl, extractedText).join();
+        } catch (CompletionException e) {
+            // Don't leave an orphaned object behind when only the extraction failed
+            fileUrl.thenAccept(this::deleteOrphan);
+            throw unwrap(e);
         }
+
+        return FileUploadResult.builder()
+                .fileName(upload.fileName())
+                .fileUrl(fileUrl.join())
+                .fileSize(upload.size())
+                .fileType(upload.contentType())
+                .extractedText(extractedText.join())
+                .build();
     }
 
     // Delete file
     public void deleteFile(String fileUrl) {
         try {
-            String fileKey = s3Service.extractFileKeyFromUrl(fileUrl);
-            s3Service.deleteFile(fileKey);
+            storageService.delete(fileUrl);
 
         } catch (Exception e) {
             log.error("Error deleting file: {}", e.getMessage());
@@ -52,6 +100,63 @@ public class FileStorageService {
         }
     }
 
+    // Size of a stored file
+    public long getFileSize(String fileUrl) {
+        return storageService.size(fileUrl);
+    }
+
+    // Local file behind a stored location, when the backend keeps files on this machine
+    public Optional<Path> getLocalPath(String fileUrl) {
+        return storageService.localPath(fileUrl);
+    }
+
+    // Stream a byte range of a stored file to the client
+    public void transferTo(String fileUrl, long offset, long length, WritableByteChannel target) throws IOException {
+        storageService.transferTo(fileUrl, offset, length, target);
+    }
+
+    private void deleteOrphan(String fileUrl) {
+        try {
+            deleteFile(fileUrl);
+        } catch (Exception e) {
+            log.warn("Failed to delete orphaned upload {}", fileUrl);
+        }
+    }
+
+    private RuntimeException unwrap(CompletionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        log.error("Error storing resume: {}", e.getMessage());
+        return new FileStorageException("Failed to store resume file", e.getCause());
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file {}: {}", path, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadWorkers.shutdown();
+    }
+
+    // Upload spooled to a temp file - closing it deletes the file
+    public record SpooledUpload(Path path, String fileName, String contentType, long size, String contentHash)
+            implements AutoCloseable {
+
+        @Override
+        public void close() {
+            deleteQuietly(path);
+        }
+    }
+
     // Inner class for upload result
     @lombok.Builder
     @lombok.Data
@@ -62,4 +167,4 @@ public class FileStorageService {
         private String fileType;
         private String extractedText;
     }
-}
\ No newline at end of file
+}
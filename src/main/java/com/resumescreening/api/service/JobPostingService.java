@@ -1,5 +1,7 @@
 package com.resumescreening.api.service;
 
+import com.resumescreening.api.cache.CacheNamespaces;
+import com.resumescreening.api.cache.CachedPage;
 import com.resumescreening.api.exception.ResourceNotFoundException;
 import com.resumescreening.api.model.dto.response.JobPostingResponse;
 import com.resumescreening.api.model.entity.JobPosting;
@@ -27,11 +29,14 @@ import java.util.List;
 @Slf4j
 public class JobPostingService {
 
+    private static final String ACTIVE_JOBS = "activeJobs";
+
     private final JobPostingRepository jobPostingRepository;
     private final UserService userService;
+    private final CacheNamespaces cacheNamespaces;
 
     @Transactional
-    @CacheEvict(value = {"activeJobsList", "userJobs"}, allEntries = true)
+    @CacheEvict(value = "userJobs", key = "#userId")
     public JobPostingResponse createJob(Long userId, String title, String description,
                                         List<String> requiredSkills, ExperienceLevel experienceLevel,
                                         EmploymentType employmentType, String location, String salaryRange, String companyName) {
@@ -52,11 +57,12 @@ public class JobPostingService {
         // Eagerly fetch user before transaction ends
         job.getUser().getFullName();
 
+        cacheNamespaces.bump(ACTIVE_JOBS);
         log.info("Job posting created: {} by user {}", job.getId(), userId);
         return DtoMapper.toJobPostingResponse(job);
     }
 
-    @Cacheable(value = "jobs", key = "#jobId")
+    @Cacheable(value = "jobs", key = "#jobId", sync = true)
     public JobPostingResponse getJobById(Long jobId) {
         JobPosting job = jobPostingRepository.findByIdWithUser(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
@@ -69,7 +75,7 @@ public class JobPostingService {
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + jobId));
     }
 
-    @Cacheable(value = "userJobs", key = "#userId")
+    @Cacheable(value = "userJobs", key = "#userId", sync = true)
     public List<JobPostingResponse> getActiveJobsByUser(Long userId) {
         List<JobPosting> jobs = jobPostingRepository.findByUserIdAndIsActiveTrue(userId);
         return jobs.stream()
@@ -77,16 +83,17 @@ public class JobPostingService {
                 .toList();
     }
 
-    // DON'T cache paginated results
-    public Page<JobPostingResponse> getAllActiveJobs(Pageable pageable) {
+    // Pages live under a versioned namespace - any job change bumps the version instead of evicting every page
+    @Cacheable(value = "activeJobsList", sync = true,
+            key = "@cacheNamespaces.key('" + ACTIVE_JOBS + "', #pageable.pageNumber, #pageable.pageSize, #pageable.sort)")
+    public CachedPage<JobPostingResponse> getAllActiveJobs(Pageable pageable) {
         Page<JobPosting> jobsPage = jobPostingRepository.findByIsActiveTrue(pageable);
-        return jobsPage.map(DtoMapper::toJobPostingResponse);
+        return CachedPage.of(jobsPage.map(DtoMapper::toJobPostingResponse));
     }
 
     @Transactional
     @Caching(evict = {
             @CacheEvict(value = "jobs", key = "#jobId"),
-            @CacheEvict(value = "activeJobsList", allEntries = true),
             @CacheEvict(value = "userJobs", key = "#userId")
     })
     public JobPostingResponse updateJob(Long jobId, Long userId, String title, String description,
@@ -120,6 +127,7 @@ public class JobPostingService {
 
         JobPosting updatedJob = jobPostingRepository.save(job);
         Hibernate.initialize(updatedJob.getUser());
+        cacheNamespaces.bump(ACTIVE_JOBS);
         log.info("Job posting updated: {}", jobId);
         return DtoMapper.toJobPostingResponse(updatedJob);
     }
@@ -127,7 +135,6 @@ public class JobPostingService {
     @Transactional
     @Caching(evict = {
             @CacheEvict(value = "jobs", key = "#jobId"),
-            @CacheEvict(value = "activeJobsList", allEntries = true),
             @CacheEvict(value = "userJobs", key = "#userId")
     })
     public void deactivateJob(Long jobId, Long userId) {
@@ -137,13 +144,13 @@ public class JobPostingService {
         job.setIsActive(false);
         jobPostingRepository.save(job);
 
+        cacheNamespaces.bump(ACTIVE_JOBS);
         log.info("Job posting deactivated: {}", jobId);
     }
 
     @Transactional
     @Caching(evict = {
             @CacheEvict(value = "jobs", key = "#jobId"),
-            @CacheEvict(value = "activeJobsList", allEntries = true),
             @CacheEvict(value = "userJobs", key = "#userId")
     })
     public void deleteJob(Long jobId, Long userId) {
@@ -152,6 +159,7 @@ public class JobPostingService {
 
         jobPostingRepository.delete(job);
 
+        cacheNamespaces.bump(ACTIVE_JOBS);
         log.info("Job posting deleted: {}", jobId);
     }
 
@@ -0,0 +1,112 @@
+package com.resumescreening.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resumescreening.api.util.HashUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Content-addressed cache for LLM completions.
+ * - Key is a SHA-256 of everything that shapes the answer: model, temperature, max tokens and both prompts
+ * - In-process Caffeine tier (size-bounded, W-TinyLFU) in front of a shared Redis tier
+ * - Redis entries carry their own TTL; Redis failures are treated as misses, never as errors
+ * - Calls block on Redis, so reactive callers must subscribe on a blocking-friendly scheduler
+ */
+@Service
+@Slf4j
+public class LlmResponseCache {
+
+    private static final String KEY_PREFIX = "llm:completion:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, String> localCache;
+    private final Duration ttl;
+    private final boolean enabled;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public LlmResponseCache(StringRedisTemplate redisTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${openai.cache.enabled:true}") boolean enabled,
+                            @Value("${openai.cache.ttl:7d}") Duration ttl,
+                            @Value("${openai.cache.local-ttl:1h}") Duration localTtl,
+                            @Value("${openai.cache.local-max-entries:2000}") long localMaxEntries) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxEntries)
+                .expireAfterWrite(localTtl.compareTo(ttl) < 0 ? localTtl : ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "llmCompletions");
+        this.localHits = lookupCounter(meterRegistry, "hit", "local");
+        this.redisHits = lookupCounter(meterRegistry, "hit", "redis");
+        this.misses = lookupCounter(meterRegistry, "miss", "none");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public static String key(String model, double temperature, int maxTokens, String systemPrompt, String userPrompt) {
+        return HashUtils.sha256Hex(model, Double.toString(temperature), Integer.toString(maxTokens),
+                systemPrompt, userPrompt);
+    }
+
+    // Local tier first, then Redis; a Redis hit is copied into the local tier
+    public Optional<String> get(String key) {
+        String cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            localHits.increment();
+            return Optional.of(cached);
+        }
+
+        try {
+            cached = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        } catch (Exception e) {
+            log.warn("LLM cache lookup failed, calling the model instead: {}", e.getMessage());
+        }
+
+        if (cached != null) {
+            localCache.put(key, cached);
+            redisHits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void put(String key, String response) {
+        if (response == null || response.isBlank()) {
+            return;
+        }
+        localCache.put(key, response);
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, response, ttl);
+        } catch (Exception e) {
+            log.warn("LLM cache write failed: {}", e.getMessage());
+        }
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result, String tier) {
+        return Counter.builder("llm.cache.requests")
+                .description("LLM completion cache lookups")
+                .tag("result", result)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
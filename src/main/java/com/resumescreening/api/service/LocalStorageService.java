@@ -0,0 +1,111 @@
+package com.resumescreening.api.service;
+
+import com.resumescreening.api.exception.FileStorageException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Local-disk storage backend (storage.type=local).
+ * - Copies use FileChannel.transferTo/transferFrom, so the kernel moves the bytes without a user-space buffer
+ * - Locations look like "local:resumes/uuid.pdf" and always resolve inside the root directory
+ */
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+@Slf4j
+public class LocalStorageService implements StorageService {
+
+    private static final String LOCATION_PREFIX = "local:";
+
+    private final Path rootDir;
+
+    public LocalStorageService(@Value("${storage.local.root-dir:./data/uploads}") String rootDir) throws IOException {
+        this.rootDir = Path.of(rootDir).toAbsolutePath().normalize();
+        Files.createDirectories(this.rootDir);
+        log.info("Local file storage at {}", this.rootDir);
+    }
+
+    @Override
+    public String store(Path source, String originalFileName, String contentType, String folder) {
+        String key = StorageService.newKey(folder, originalFileName);
+        Path target = resolve(LOCATION_PREFIX + key);
+
+        try {
+            Files.createDirectories(target.getParent());
+            try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long size = in.size();
+                long position = 0;
+                while (position < size) {
+                    position += out.transferFrom(in, position, size - position);
+                }
+            }
+            log.info("File stored successfully: {}", key);
+            return LOCATION_PREFIX + key;
+
+        } catch (IOException e) {
+            log.error("Error storing file locally: {}", e.getMessage());
+            throw new FileStorageException("Failed to store file", e);
+        }
+    }
+
+    @Override
+    public void delete(String location) {
+        try {
+            Files.deleteIfExists(resolve(location));
+            log.info("File deleted successfully: {}", location);
+        } catch (IOException e) {
+            log.error("Error deleting local file: {}", e.getMessage());
+            throw new FileStorageException("Failed to delete file", e);
+        }
+    }
+
+    @Override
+    public long size(String location) {
+        try {
+            return Files.size(resolve(location));
+        } catch (IOException e) {
+            throw new FileStorageException("File not found: " + location, e);
+        }
+    }
+
+    @Override
+    public void transferTo(String location, long offset, long length, WritableByteChannel target) throws IOException {
+        try (FileChannel in = FileChannel.open(resolve(location), StandardOpenOption.READ)) {
+            long transferred = 0;
+            while (transferred < length) {
+                long count = in.transferTo(offset + transferred, length - transferred, target);
+                if (count <= 0) {
+                    break;  // File shrank underneath us
+                }
+                transferred += count;
+            }
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String location) {
+        return Optional.of(resolve(location));
+    }
+
+    // Never let a stored location escape the root directory
+    private Path resolve(String location) {
+        if (location == null || !location.startsWith(LOCATION_PREFIX)) {
+            throw new IllegalArgumentException("Not a local storage location: " + location);
+        }
+        Path path = rootDir.resolve(location.substring(LOCATION_PREFIX.length())).normalize();
+        if (!path.startsWith(rootDir)) {
+            throw new IllegalArgumentException("Invalid storage location: " + location);
+        }
+        return path;
+    }
+}
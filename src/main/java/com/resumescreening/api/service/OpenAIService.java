@@ -1,5 +1,6 @@
 package com.resumescreening.api.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -8,17 +9,25 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @Slf4j
 public class OpenAIService {
 
+    private static final double TEMPERATURE = 0.3;
+    private static final int MAX_TOKENS = 2000;
+
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
+    private final LlmResponseCache responseCache;
 
     @Value("${openai.api.key}")
     private String apiKey;
@@ -26,56 +35,111 @@ public class OpenAIService {
     @Value("${openai.api.model}")
     private String model;
 
+    @Value("${openai.api.timeout:60s}")
+    private Duration timeout;
+
     public OpenAIService(WebClient.Builder webClientBuilder, ObjectMapper objectMapper,
+                         LlmResponseCache responseCache,
                          @Value("${openai.api.url}") String baseUrl) {
         // Use the base URL from config (OpenRouter URL)
         this.webClient = webClientBuilder.baseUrl(baseUrl).build();
         this.objectMapper = objectMapper;
+        this.responseCache = responseCache;
     }
 
+    // Blocking variant - kept for callers that already run on their own (virtual) thread
     public String chatCompletion(String systemPrompt, String userPrompt) {
-        try {
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", model);
-            requestBody.put("messages", List.of(
-                    Map.of("role", "system", "content", systemPrompt),
-                    Map.of("role", "user", "content", userPrompt)
-            ));
-            requestBody.put("temperature", 0.3);
-            requestBody.put("max_tokens", 2000);
-
-            log.debug("Calling OpenAI API with model: {}", model);
-
-
-            String response = webClient.post()
-                    .uri("") // Empty since we're using the full base URL
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                    .header("HTTP-Referer", "http://localhost:8080")
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+        return chatCompletionAsync(systemPrompt, userPrompt).block();
+    }
 
-            JsonNode root = objectMapper.readTree(response);
-            String content = root.at("/choices/0/message/content").asText();
+    // Non-blocking variant - no thread is held while the model is generating
+    public Mono<String> chatCompletionAsync(String systemPrompt, String userPrompt) {
+        if (!responseCache.isEnabled()) {
+            return callApi(systemPrompt, userPrompt);
+        }
 
-            log.info("OpenAI response received, length: {}", content.length());
-            return content;
+        // Identical prompts get identical answers - reuse them instead of paying for another call.
+        // The cache may block on Redis, so lookups and writes run on boundedElastic
+        String cacheKey = LlmResponseCache.key(model, TEMPERATURE, MAX_TOKENS, systemPrompt, userPrompt);
+        return Mono.fromCallable(() -> responseCache.get(cacheKey))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> cached
+                        .map(content -> {
+                            log.debug("LLM cache hit for key {}", cacheKey);
+                            return Mono.just(content);
+                        })
+                        .orElseGet(() -> callApi(systemPrompt, userPrompt)
+                                .publishOn(Schedulers.boundedElastic())
+                                .doOnNext(content -> {
+                                    if (isJsonAnswer(content)) {
+                                        responseCache.put(cacheKey, content);
+                                    }
+                                })));
+    }
 
-        } catch (Exception e) {
-            log.error("Error calling OpenAI API: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to call OpenAI API", e);
+    // All callers expect JSON - a malformed answer is not cached, so a retry gets a fresh one
+    private boolean isJsonAnswer(String content) {
+        try {
+            objectMapper.readTree(cleanJsonResponse(content));
+            return true;
+        } catch (JsonProcessingException e) {
+            return false;
         }
     }
 
+    private Mono<String> callApi(String systemPrompt, String userPrompt) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", model);
+        requestBody.put("messages", List.of(
+                Map.of("role", "system", "content", systemPrompt),
+                Map.of("role", "user", "content", userPrompt)
+        ));
+        requestBody.put("temperature", TEMPERATURE);
+        requestBody.put("max_tokens", MAX_TOKENS);
+
+        log.debug("Calling OpenAI API with model: {}", model);
+
+        return webClient.post()
+                .uri("") // Empty since we're using the full base URL
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .header("HTTP-Referer", "http://localhost:8080")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(String.class)
+                .timeout(timeout)
+                .map(this::extractContent)
+                .doOnNext(content -> log.info("OpenAI response received, length: {}", content.length()))
+                .onErrorMap(e -> {
+                    log.error("Error calling OpenAI API: {}", e.getMessage(), e);
+                    return new RuntimeException("Failed to call OpenAI API", e);
+                });
+    }
+
     public String complete(String prompt) {
-        return chatCompletion(
+        return completeAsync(prompt).block();
+    }
+
+    public Mono<String> completeAsync(String prompt) {
+        return chatCompletionAsync(
                 "You are a helpful assistant that processes resumes and job descriptions.",
                 prompt
         );
     }
 
+    public CompletableFuture<String> completeFuture(String prompt) {
+        return completeAsync(prompt).toFuture();
+    }
+
+    private String extractContent(String response) {
+        try {
+            JsonNode root = objectMapper.readTree(response);
+            return root.at("/choices/0/message/content").asText();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Invalid response from OpenAI API", e);
+        }
+    }
+
     public String cleanJsonResponse(String response) {
         String cleaned = response.trim();
 
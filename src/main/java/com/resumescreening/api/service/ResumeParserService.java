@@ -1,10 +1,12 @@
 package com.resumescreening.api.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resumescreening.api.model.dto.ParsedResumeData;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
 
 @Service
 @RequiredArgsConstructor
@@ -15,26 +17,28 @@ public class ResumeParserService {
     private final ObjectMapper objectMapper;
 
     public ParsedResumeData parseResume(String resumeText) {
-        try {
-            String prompt = buildParsingPrompt(resumeText);
-
-            log.info("Parsing resume with AI...");
+        return parseResumeAsync(resumeText).block();
+    }
 
-            String aiResponse = openAIService.complete(prompt);
+    // Non-blocking variant - lets callers overlap parsing with other work
+    public Mono<ParsedResumeData> parseResumeAsync(String resumeText) {
+        return Mono.fromSupplier(() -> buildParsingPrompt(resumeText))
+                .doOnNext(prompt -> log.info("Parsing resume with AI..."))
+                .flatMap(openAIService::completeAsync)
+                .map(this::toParsedData)
+                .doOnNext(parsedData -> log.info("Resume parsed successfully: {}", parsedData.getFullName()))
+                .onErrorMap(e -> {
+                    log.error("Error parsing resume: {}", e.getMessage(), e);
+                    return new RuntimeException("Failed to parse resume", e);
+                });
+    }
 
+    private ParsedResumeData toParsedData(String aiResponse) {
+        try {
             String cleanedResponse = openAIService.cleanJsonResponse(aiResponse);
-
-            ParsedResumeData parsedData = objectMapper.readValue(
-                    cleanedResponse,
-                    ParsedResumeData.class
-            );
-
-            log.info("Resume parsed successfully: {}", parsedData.getFullName());
-            return parsedData;
-
-        } catch (Exception e) {
-            log.error("Error parsing resume: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to parse resume", e);
+            return objectMapper.readValue(cleanedResponse, ParsedResumeData.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("AI returned invalid resume JSON", e);
         }
     }
 
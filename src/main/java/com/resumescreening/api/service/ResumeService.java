@@ -7,6 +7,8 @@ import com.resumescreening.api.model.dto.ParsedResumeData;
 import com.resumescreening.api.model.dto.response.ResumeResponse;
 import com.resumescreening.api.model.entity.Resume;
 import com.resumescreening.api.model.entity.User;
+import com.resumescreening.api.model.enums.Role;
+import com.resumescreening.api.repository.ApplicationRepository;
 import com.resumescreening.api.repository.ResumeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +28,7 @@ import java.util.List;
 public class ResumeService {
 
     private final ResumeRepository resumeRepository;
+    private final ApplicationRepository applicationRepository;
     private final UserService userService;
     private final FileStorageService fileStorageService;
     private final ResumeParserService resumeParserService;
@@ -36,29 +40,35 @@ public class ResumeService {
     public ResumeResponse uploadResume(Long userId, MultipartFile file) throws JsonProcessingException {
         User user = userService.getUserById(userId);
 
-        // Upload file and extract text
-        FileStorageService.FileUploadResult uploadResult = fileStorageService.storeResume(file);
-
-        // Try to parse resume with AI - but don't fail if parsing fails
-        String parsedDataJson = null;
-        try {
-            ParsedResumeData parsedData = resumeParserService.parseResume(uploadResult.getExtractedText());
-            parsedDataJson = objectMapper.writeValueAsString(parsedData);
-            log.info("Resume parsing successful for user {}", userId);
-        } catch (Exception e) {
-            log.error("Failed to parse resume with AI for user {}: {}", userId, e.getMessage(), e);
-            // Continue without parsed data - file is still uploaded
-            log.warn("Resume will be saved without parsed data");
-        }
-
         Resume resume = new Resume();
         resume.setUser(user);
-        resume.setFileName(uploadResult.getFileName());
-        resume.setFilePath(uploadResult.getFileUrl());
-        resume.setContentType(uploadResult.getFileType());
-        resume.setFileSize(uploadResult.getFileSize());
-        resume.setExtractedText(uploadResult.getExtractedText());
-        resume.setParsedData(parsedDataJson);  // Will be null if parsing failed
+
+        // Read the upload once - hashing, S3 upload and extraction all work from the spooled copy
+        try (FileStorageService.SpooledUpload upload = fileStorageService.spool(file)) {
+            resume.setFileName(upload.fileName());
+            resume.setContentType(upload.contentType());
+            resume.setFileSize(upload.size());
+            resume.setContentHash(upload.contentHash());
+
+            // Same bytes uploaded before - reuse the stored file, extracted text and parsed data
+            Optional<Resume> duplicate = resumeRepository.findReusableByContentHash(upload.contentHash());
+            if (duplicate.isPresent()) {
+                Resume original = duplicate.get();
+                log.info("Resume upload for user {} duplicates resume {}, skipping storage and extraction",
+                        userId, original.getId());
+                resume.setFilePath(original.getFilePath());
+                resume.setExtractedText(original.getExtractedText());
+                resume.setParsedData(original.getParsedData() != null
+                        ? original.getParsedData()
+                        : parseResumeData(original.getExtractedText(), userId));
+            } else {
+                // Upload file and extract text
+                FileStorageService.FileUploadResult uploadResult = fileStorageService.storeResume(upload);
+                resume.setFilePath(uploadResult.getFileUrl());
+                resume.setExtractedText(uploadResult.getExtractedText());
+                resume.setParsedData(parseResumeData(uploadResult.getExtractedText(), userId));  // Null if parsing failed
+            }
+        }
         resume = resumeRepository.save(resume);
 
         log.info("Resume uploaded: {} for user {}", resume.getId(), userId);
@@ -67,6 +77,20 @@ public class ResumeService {
         return toResumeResponseWithParsedData(resume);
     }
 
+    // Try to parse resume with AI - but don't fail if parsing fails
+    private String parseResumeData(String extractedText, Long userId) {
+        try {
+            ParsedResumeData parsedData = resumeParserService.parseResume(extractedText);
+            log.info("Resume parsing successful for user {}", userId);
+            return objectMapper.writeValueAsString(parsedData);
+        } catch (Exception e) {
+            log.error("Failed to parse resume with AI for user {}: {}", userId, e.getMessage(), e);
+            // Continue without parsed data - file is still uploaded
+            log.warn("Resume will be saved without parsed data");
+            return null;
+        }
+    }
+
     // Get resume by ID - WITH parsed data for detail view (not cached)
     @Transactional(readOnly = true)
     public ResumeResponse getResumeById(Long resumeId) {
@@ -83,6 +107,20 @@ public class ResumeService {
                 .orElseThrow(() -> new ResourceNotFoundException("Resume not found with id: " + resumeId));
     }
 
+    // Resume whose file the user may download - the owner, or a recruiter it was submitted to
+    @Transactional(readOnly = true)
+    public Resume getResumeForDownload(Long resumeId, User user) {
+        Resume resume = getResumeEntityById(resumeId);
+        if (user.getRole() == Role.RECRUITER) {
+            if (!applicationRepository.existsByResumeIdAndJobPostingUserId(resumeId, user.getId())) {
+                throw new SecurityException("You don't have permission to access this resume");
+            }
+            return resume;
+        }
+        validateOwnership(resume, user.getId());
+        return resume;
+    }
+
     // Get all resumes - WITHOUT parsed data (cached for performance)
     @Cacheable(value = "userResumes", key = "#userId")
     @Transactional(readOnly = true)
@@ -120,11 +158,15 @@ public class ResumeService {
         Resume resume = getResumeEntityById(resumeId);
         validateOwnership(resume, userId);
 
-        // Delete from S3
-        try {
-            fileStorageService.deleteFile(resume.getFilePath());
-        } catch (Exception e) {
-            log.warn("Failed to delete file from S3: {}", resume.getFilePath(), e);
+        // Delete from S3 - unless a de-duplicated resume still points at the same file
+        if (resumeRepository.countByFilePath(resume.getFilePath()) > 1) {
+            log.info("File {} is shared with other resumes, keeping it", resume.getFilePath());
+        } else {
+            try {
+                fileStorageService.deleteFile(resume.getFilePath());
+            } catch (Exception e) {
+                log.warn("Failed to delete file from S3: {}", resume.getFilePath(), e);
+            }
         }
 
         resumeRepository.delete(resume);
@@ -3,26 +3,45 @@ package com.resumescreening.api.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.UUID;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletionException;
 
 @Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
-public class S3Service {
+public class S3Service implements StorageService {
 
     private final S3Client s3Client;
+    private final S3TransferManager transferManager;
 
     @Value("${aws.s3.bucket-name}")
     private String bucketName;
 
+    @Value("${aws.s3.endpoint:}")
+    private String endpoint;
+
+    // Files at least this large go through the Transfer Manager as multipart uploads
+    @Value("${aws.s3.multipart.threshold:8MB}")
+    private DataSize multipartThreshold;
+
     // Upload file to S3
     public String uploadFile(MultipartFile file, String folder) throws IOException {
         // Generate unique file name
@@ -53,6 +72,86 @@ public class S3Service {
         }
     }
 
+    // Upload a file from local disk - the SDK streams it and can retry without re-reading the request.
+    // Large files are split into parts that upload in parallel and are retried one by one
+    public String uploadFile(Path path, String originalFileName, String contentType, String folder) {
+        String fileName = generateFileName(originalFileName, folder);
+
+        try {
+            PutObjectRequest putRequest = PutObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(fileName)
+                    .contentType(contentType)
+                    .build();
+
+            long size = Files.size(path);
+            if (size >= multipartThreshold.toBytes()) {
+                transferManager.uploadFile(UploadFileRequest.builder()
+                                .putObjectRequest(putRequest)
+                                .source(path)
+                                .build())
+                        .completionFuture()
+                        .join();
+                log.info("File uploaded successfully (multipart, {} bytes): {}", size, fileName);
+            } else {
+                s3Client.putObject(putRequest, RequestBody.fromFile(path));
+                log.info("File uploaded successfully: {}", fileName);
+            }
+
+            return getFileUrl(fileName);
+
+        } catch (S3Exception | CompletionException e) {
+            log.error("Error uploading file to S3: {}", e.getMessage());
+            throw new RuntimeException("Failed to upload file to S3", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read upload " + path, e);
+        }
+    }
+
+    @Override
+    public String store(Path source, String originalFileName, String contentType, String folder) {
+        return uploadFile(source, originalFileName, contentType, folder);
+    }
+
+    @Override
+    public void delete(String location) {
+        deleteFile(extractFileKeyFromUrl(location));
+    }
+
+    @Override
+    public long size(String location) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(extractFileKeyFromUrl(location))
+                            .build())
+                    .contentLength();
+        } catch (S3Exception e) {
+            log.error("Error reading file metadata from S3: {}", e.getMessage());
+            throw new RuntimeException("Failed to read file from S3", e);
+        }
+    }
+
+    // Ranged GET - only the requested bytes leave S3
+    @Override
+    public void transferTo(String location, long offset, long length, WritableByteChannel target) throws IOException {
+        if (length <= 0) {
+            return;
+        }
+        GetObjectRequest getRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(extractFileKeyFromUrl(location))
+                .range("bytes=" + offset + "-" + (offset + length - 1))
+                .build();
+
+        try (ResponseInputStream<GetObjectResponse> in = s3Client.getObject(getRequest)) {
+            in.transferTo(Channels.newOutputStream(target));
+        } catch (S3Exception e) {
+            log.error("Error downloading file from S3: {}", e.getMessage());
+            throw new RuntimeException("Failed to download file from S3", e);
+        }
+    }
+
     // Download file from S3
     public InputStream downloadFile(String fileKey) {
         try {
@@ -107,21 +206,15 @@ public class S3Service {
 
     // Generate unique file name
     private String generateFileName(String originalFileName, String folder) {
-        String extension = getFileExtension(originalFileName);
-        String uuid = UUID.randomUUID().toString();
-        return folder + "/" + uuid + extension;
-    }
-
-    // Extract file extension
-    private String getFileExtension(String fileName) {
-        if (fileName == null || !fileName.contains(".")) {
-            return "";
-        }
-        return fileName.substring(fileName.lastIndexOf("."));
+        return StorageService.newKey(folder, originalFileName);
     }
 
     // Get public URL for file
     private String getFileUrl(String fileKey) {
+        if (!endpoint.isBlank()) {
+            // S3 stand-in such as MinIO - path-style URL
+            return String.format("%s/%s/%s", endpoint.replaceAll("/+$", ""), bucketName, fileKey);
+        }
         return String.format("https://%s.s3.amazonaws.com/%s", bucketName, fileKey);
     }
 
@@ -1,137 +1,80 @@
 package com.resumescreening.api.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.resumescreening.api.exception.ResourceNotFoundException;
 import com.resumescreening.api.model.dto.ParsedResumeData;
 import com.resumescreening.api.model.dto.ScreeningAnalysis;
-import com.resumescreening.api.model.dto.response.ApplicationResponse;
+import com.resumescreening.api.model.dto.response.CursorPageResponse;
 import com.resumescreening.api.model.dto.response.ScreeningResultResponse;
 import com.resumescreening.api.model.entity.Application;
 import com.resumescreening.api.model.entity.JobPosting;
 import com.resumescreening.api.model.entity.Resume;
 import com.resumescreening.api.model.entity.ScreeningResult;
-import com.resumescreening.api.model.entity.User;
-import com.resumescreening.api.model.enums.ApplicationStatus;
 import com.resumescreening.api.model.enums.Recommendation;
+import com.resumescreening.api.model.projection.JobScoreSummary;
+import com.resumescreening.api.model.projection.ScoreBucketRow;
+import com.resumescreening.api.model.projection.ScreeningResultRow;
+import com.resumescreening.api.model.projection.ScreeningStatsRow;
 import com.resumescreening.api.repository.ScreeningResultRepository;
 import com.resumescreening.api.util.DtoMapper;
+import com.resumescreening.api.util.ScoreCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Limit;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ScreeningService {
+    private static final int SCORE_BUCKETS = 10;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final OpenAIService openAIService;
     private final ScreeningResultRepository screeningRepository;
     private final ApplicationService applicationService;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // LLM call runs outside any transaction; only the write below holds a DB connection
     @Caching(evict = {
-            @CacheEvict(value = "screeningResults", key = "#application.id"),
-            @CacheEvict(value = "jobScreeningResults", key = "#application.jobPosting.id"),
+            @CacheEvict(value = "screeningResults", key = "#result.id"),
             @CacheEvict(value = "screeningStats", key = "#application.jobPosting.id")
     })
     public ScreeningResultResponse screenApplication(Application application) {
-        long startTime = System.currentTimeMillis();
-
-        try {
-            // Check if already screened
-            if (screeningRepository.existsByApplicationId(application.getId())) {
-                throw new IllegalStateException("This application has already been screened");
-            }
-            log.info("Screening application {} for job {}",
-                    application.getId(),
-                    application.getJobPosting().getId());
-
-            JobPosting job = application.getJobPosting();
-            Resume resume = application.getResume();
-            String prompt = buildScreeningPrompt(job, resume);
-            String aiResponse = openAIService.complete(prompt);
-            String cleanedResponse = openAIService.cleanJsonResponse(aiResponse);
-            ScreeningAnalysis analysis = objectMapper.readValue(
-                    cleanedResponse,
-                    ScreeningAnalysis.class
-            );
-            long processingTime = System.currentTimeMillis() - startTime;
-
-            ScreeningResult result = new ScreeningResult();
-            result.setApplication(application);
-            result.setJobPosting(application.getJobPosting());
-            result.setMatchScore(analysis.getOverallScore().intValue());
-            result.setSkillMatchScore(analysis.getSkillMatchScore() != null ?
-                    analysis.getSkillMatchScore().intValue() : null);
-            result.setExperienceMatchScore(analysis.getExperienceMatchScore() != null ?
-                    analysis.getExperienceMatchScore().intValue() : null);
-            result.setEducationMatchScore(analysis.getEducationMatchScore() != null ?
-                    analysis.getEducationMatchScore().intValue() : null);
-            result.setRecommendation(determineRecommendation(analysis.getOverallScore()));
-            result.setMatchedSkills(analysis.getMatchedSkills());
-            result.setMissingSkills(analysis.getMissingSkills());
-            result.setStrengths(analysis.getStrengths());
-            result.setWeaknesses(analysis.getWeaknesses());
-            result.setAiAnalysis(analysis.getSummary());
-            result.setProcessingTimeMs(processingTime);
-            result = screeningRepository.save(result);
-
-            Hibernate.initialize(result.getApplication());
-            Hibernate.initialize(result.getJobPosting());
-
-            application.setStatus(ApplicationStatus.UNDER_REVIEW);
-            application.setScreenedAt(LocalDateTime.now());
-
-            log.info("Screening completed: Score={}, Recommendation={}, Time={}ms",
-                    result.getMatchScore(), result.getRecommendation(), processingTime);
-            return DtoMapper.toScreeningResultResponse(result);
-        } catch (Exception e) {
-            log.error("Error screening application: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to screen application", e);
-        }
+        return screen(application).block();
     }
 
-    @Transactional
+    // Non-blocking variant - no thread waits on the LLM; caches are evicted once the future completes,
+    // so #result is the screening result rather than the future
     @Caching(evict = {
-            @CacheEvict(value = "jobScreeningResults", key = "#jobId"),
-            @CacheEvict(value = "screeningStats", key = "#jobId")
+            @CacheEvict(value = "screeningResults", key = "#result.id"),
+            @CacheEvict(value = "screeningStats", key = "#application.jobPosting.id")
     })
-    public List<ScreeningResultResponse> batchScreenApplications(Long jobId, User recruiter) {
-        log.info("Batch screening applications for job {}", jobId);
-        List<ApplicationResponse> applications = applicationService.getApplicationsForJob(jobId, recruiter);
-        List<ScreeningResultResponse> results = new ArrayList<>();
-
-        for (ApplicationResponse appResponse : applications) {
-            try {
-                // Skip if already screened
-                if (!screeningRepository.existsByApplicationId(appResponse.getId())) {
-                    // Get the application entity
-                    Application application = applicationService.getApplicationEntityById(appResponse.getId());
-                    ScreeningResultResponse result = screenApplication(application);
-                    results.add(result);
-                } else {
-                    log.info("Skipping already screened application: {}", appResponse.getId());
-                }
-            } catch (Exception e) {
-                log.error("Error screening application {}: {}", appResponse.getId(), e.getMessage());
-            }
-        }
-        log.info("Batch screening completed: {} results", results.size());
-        return results;
+    public CompletableFuture<ScreeningResultResponse> screenApplicationAsync(Application application) {
+        return screen(application).toFuture();
     }
 
-    @Cacheable(value = "screeningResults", key = "#screeningId")
+    @Cacheable(value = "screeningResults", key = "#screeningId", sync = true)
     @Transactional(readOnly = true)
     public ScreeningResultResponse getScreeningResult(Long screeningId) {
         ScreeningResult result = getScreeningResultEntityById(screeningId);
@@ -148,28 +91,54 @@ public class ScreeningService {
         return result;
     }
 
-    @Cacheable(value = "jobScreeningResults", key = "#jobId")
+    // Keyset pagination: each page is one indexed range read, however deep the client has paged
     @Transactional(readOnly = true)
-    public List<ScreeningResultResponse> getScreeningResultsByJobId(Long jobId) {
-        List<ScreeningResult> results = screeningRepository.findByApplicationJobPostingId(jobId);
-        return results.stream()
+    public CursorPageResponse<ScreeningResultResponse> getScreeningResultsPage(Long jobId, String cursor, int limit) {
+        checkPageSize(limit);
+        // One extra row tells whether another page exists without a COUNT
+        List<ScreeningResultRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = screeningRepository.findTopRowsByJobPostingId(jobId, Limit.of(limit + 1));
+        } else {
+            ScoreCursor after = ScoreCursor.decode(cursor);
+            rows = screeningRepository.findRowsByJobPostingIdAfter(jobId, after.score(), after.id(), Limit.of(limit + 1));
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<ScreeningResultRow> page = hasMore ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            ScreeningResultRow last = page.getLast();
+            nextCursor = new ScoreCursor(last.matchScore(), last.id()).encode();
+        }
+
+        return CursorPageResponse.<ScreeningResultResponse>builder()
+                .items(page.stream().map(DtoMapper::toScreeningResultResponse).toList())
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // Highest scores first; the database stops after k rows
+    @Transactional(readOnly = true)
+    public List<ScreeningResultResponse> getTopCandidates(Long jobId, int k) {
+        checkPageSize(k);
+        return screeningRepository.findTopRowsByJobPostingId(jobId, Limit.of(k)).stream()
                 .map(DtoMapper::toScreeningResultResponse)
                 .toList();
     }
 
     @Transactional(readOnly = true)
-    public List<ScreeningResultResponse> getTopCandidates(Long jobId) {
-        // Reuses cached job screening results
-        List<ScreeningResultResponse> results = getScreeningResultsByJobId(jobId);
-        return results.stream()
-                .sorted((r1, r2) -> Integer.compare(r2.getMatchScore(), r1.getMatchScore()))
+    public List<ScreeningResultResponse> getCandidatesByRecommendation(Long jobId, Recommendation recommendation) {
+        return screeningRepository.findRowsByJobPostingIdAndRecommendation(jobId, recommendation).stream()
+                .map(DtoMapper::toScreeningResultResponse)
                 .toList();
     }
 
     @Transactional(readOnly = true)
-    public List<ScreeningResultResponse> getCandidatesByRecommendation(Long jobId, Recommendation recommendation) {
-        List<ScreeningResult> results = screeningRepository.findByJobPostingIdAndRecommendation(jobId, recommendation);
-        return results.stream()
+    public List<ScreeningResultResponse> getRecentScreeningsForRecruiter(Long recruiterId, int limit) {
+        checkPageSize(limit);
+        return screeningRepository.findRowsByRecruiterId(recruiterId, Limit.of(limit)).stream()
                 .map(DtoMapper::toScreeningResultResponse)
                 .toList();
     }
@@ -178,52 +147,70 @@ public class ScreeningService {
         return screeningRepository.existsByApplicationId(applicationId);
     }
 
-    @Cacheable(value = "screeningStats", key = "#jobId")
+    @Cacheable(value = "screeningStats", key = "#jobId", sync = true)
     @Transactional(readOnly = true)
     public ScreeningStatistics getScreeningStatistics(Long jobId) {
-        List<ScreeningResult> results = screeningRepository.findByApplicationJobPostingId(jobId);
-
-        long totalScreened = results.size();
-        long strongFit = results.stream()
-                .filter(r -> r.getRecommendation() == Recommendation.STRONG_FIT)
-                .count();
-        long goodFit = results.stream()
-                .filter(r -> r.getRecommendation() == Recommendation.GOOD_FIT)
-                .count();
-        long moderateFit = results.stream()
-                .filter(r -> r.getRecommendation() == Recommendation.MODERATE_FIT)
-                .count();
-        long poorFit = results.stream()
-                .filter(r -> r.getRecommendation() == Recommendation.POOR_FIT)
-                .count();
-
-        double averageScore = results.stream()
-                .mapToInt(ScreeningResult::getMatchScore)
-                .average()
-                .orElse(0.0);
+        // Aggregated in Postgres: two small queries, whatever the number of applicants
+        ScreeningStatsRow stats = screeningRepository.getStatisticsByJobPostingId(jobId);
+
+        long[] histogram = new long[SCORE_BUCKETS];
+        for (ScoreBucketRow bucket : screeningRepository.getScoreHistogramByJobPostingId(jobId)) {
+            histogram[bucket.getBucket()] = bucket.getCount();
+        }
+        List<ScreeningStatistics.ScoreBucket> scoreHistogram = new ArrayList<>(SCORE_BUCKETS);
+        for (int i = 0; i < SCORE_BUCKETS; i++) {
+            int from = i * 10;
+            scoreHistogram.add(new ScreeningStatistics.ScoreBucket(from, i == SCORE_BUCKETS - 1 ? 100 : from + 9,
+                    histogram[i]));
+        }
 
         return new ScreeningStatistics(
-                totalScreened,
-                strongFit,
-                goodFit,
-                moderateFit,
-                poorFit,
-                averageScore
+                stats.getTotalScreened(),
+                stats.getStrongFit(),
+                stats.getGoodFit(),
+                stats.getModerateFit(),
+                stats.getPoorFit(),
+                stats.getAverageScore() != null ? stats.getAverageScore() : 0.0,
+                stats.getMinScore(),
+                stats.getMaxScore(),
+                stats.getMedianScore(),
+                stats.getP90Score(),
+                scoreHistogram
         );
     }
 
+    @Transactional(readOnly = true)
     public double getAverageScoreForJob(Long jobId) {
-        List<ScreeningResult> results = screeningRepository.findByApplicationJobPostingId(jobId);
-        return results.stream()
-                .mapToInt(ScreeningResult::getMatchScore)
-                .average()
-                .orElse(0.0);
+        Double average = screeningRepository.getAverageScoreByJobPostingId(jobId);
+        return average != null ? average : 0.0;
     }
 
+    @Transactional(readOnly = true)
     public long countByRecommendation(Long jobId, Recommendation recommendation) {
-        return screeningRepository.findByJobPostingIdAndRecommendation(jobId, recommendation).size();
+        return screeningRepository.countByJobPostingIdAndRecommendation(jobId, recommendation);
     }
 
+    @Transactional(readOnly = true)
+    public JobScoreSummary getJobScoreSummary(Long jobId) {
+        return getJobScoreSummaries(List.of(jobId)).get(jobId);
+    }
+
+    // One aggregate query for any number of jobs; jobs without results get an empty summary
+    @Transactional(readOnly = true)
+    public Map<Long, JobScoreSummary> getJobScoreSummaries(Collection<Long> jobIds) {
+        Map<Long, JobScoreSummary> summaries = new LinkedHashMap<>();
+        if (jobIds.isEmpty()) {
+            return summaries;
+        }
+        Map<Long, JobScoreSummary> found = new HashMap<>();
+        for (JobScoreSummary summary : screeningRepository.findScoreSummariesByJobPostingIds(jobIds)) {
+            found.put(summary.jobPostingId(), summary);
+        }
+        for (Long jobId : jobIds) {
+            summaries.put(jobId, found.getOrDefault(jobId, JobScoreSummary.empty(jobId)));
+        }
+        return summaries;
+    }
 
     @Transactional(readOnly = true)
     public Optional<ScreeningResultResponse> getScreeningResultByApplicationId(Long applicationId) {
@@ -233,6 +220,76 @@ public class ScreeningService {
 
     // ==================== PRIVATE HELPER METHODS ====================
 
+    private void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private Mono<ScreeningResultResponse> screen(Application application) {
+        long startTime = System.currentTimeMillis();
+
+        return Mono.fromCallable(() -> {
+                    // Check if already screened
+                    if (screeningRepository.existsByApplicationId(application.getId())) {
+                        throw new IllegalStateException("This application has already been screened");
+                    }
+                    log.info("Screening application {} for job {}",
+                            application.getId(),
+                            application.getJobPosting().getId());
+                    return buildScreeningPrompt(application.getJobPosting(), application.getResume());
+                })
+                .flatMap(openAIService::completeAsync)
+                // JPA is blocking - leave the HTTP client's event loop before touching the database
+                .publishOn(Schedulers.boundedElastic())
+                .map(aiResponse -> saveResult(application, readAnalysis(aiResponse),
+                        System.currentTimeMillis() - startTime))
+                .onErrorMap(e -> {
+                    log.error("Error screening application: {}", e.getMessage(), e);
+                    return new RuntimeException("Failed to screen application", e);
+                });
+    }
+
+    private ScreeningAnalysis readAnalysis(String aiResponse) {
+        try {
+            String cleanedResponse = openAIService.cleanJsonResponse(aiResponse);
+            return objectMapper.readValue(cleanedResponse, ScreeningAnalysis.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("AI returned invalid screening JSON", e);
+        }
+    }
+
+    private ScreeningResultResponse saveResult(Application application, ScreeningAnalysis analysis, long processingTime) {
+        ScreeningResult result = new ScreeningResult();
+        result.setApplication(application);
+        result.setJobPosting(application.getJobPosting());
+        result.setMatchScore(analysis.getOverallScore().intValue());
+        result.setSkillMatchScore(analysis.getSkillMatchScore() != null ?
+                analysis.getSkillMatchScore().intValue() : null);
+        result.setExperienceMatchScore(analysis.getExperienceMatchScore() != null ?
+                analysis.getExperienceMatchScore().intValue() : null);
+        result.setEducationMatchScore(analysis.getEducationMatchScore() != null ?
+                analysis.getEducationMatchScore().intValue() : null);
+        result.setRecommendation(determineRecommendation(analysis.getOverallScore()));
+        result.setMatchedSkills(analysis.getMatchedSkills());
+        result.setMissingSkills(analysis.getMissingSkills());
+        result.setStrengths(analysis.getStrengths());
+        result.setWeaknesses(analysis.getWeaknesses());
+        result.setAiAnalysis(analysis.getSummary());
+        result.setProcessingTimeMs(processingTime);
+
+        // Short transaction: save result + move application to UNDER_REVIEW together
+        ScreeningResult saved = transactionTemplate.execute(status -> {
+            ScreeningResult persisted = screeningRepository.save(result);
+            applicationService.markAsScreened(application);
+            return persisted;
+        });
+
+        log.info("Screening completed: Score={}, Recommendation={}, Time={}ms",
+                saved.getMatchScore(), saved.getRecommendation(), processingTime);
+        return DtoMapper.toScreeningResultResponse(saved);
+    }
+
     private String buildScreeningPrompt(JobPosting job, Resume resume) {
         ParsedResumeData parsedData = extractParsedData(resume);
 
@@ -320,12 +377,20 @@ public class ScreeningService {
         }
     }
 
+    // Score range and percentiles are null when nothing has been screened yet
     public record ScreeningStatistics(
             long totalScreened,
             long strongFit,
             long goodFit,
             long moderateFit,
             long poorFit,
-            double averageScore
-    ) {}
+            double averageScore,
+            Integer minScore,
+            Integer maxScore,
+            Double medianScore,
+            Double p90Score,
+            List<ScoreBucket> scoreHistogram
+    ) {
+        public record ScoreBucket(int from, int to, long count) {}
+    }
 }
\ No newline at end of file
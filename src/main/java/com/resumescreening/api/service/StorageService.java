@@ -0,0 +1,40 @@
+package com.resumescreening.api.service;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Storage backend for uploaded files, selected with storage.type.
+ * - s3 (default): S3Service
+ * - local: LocalStorageService, files on disk for on-prem deployments and load tests
+ * Locations returned by store() are persisted as Resume.filePath and passed back as-is.
+ */
+public interface StorageService {
+
+    // Store a local file under folder, returns its location
+    String store(Path source, String originalFileName, String contentType, String folder);
+
+    void delete(String location);
+
+    long size(String location);
+
+    // Write length bytes starting at offset to target
+    void transferTo(String location, long offset, long length, WritableByteChannel target) throws IOException;
+
+    // File on local disk behind the location, if any - lets the servlet container use sendfile
+    default Optional<Path> localPath(String location) {
+        return Optional.empty();
+    }
+
+    // Unique key: folder/uuid.ext
+    static String newKey(String folder, String originalFileName) {
+        String extension = "";
+        if (originalFileName != null && originalFileName.contains(".")) {
+            extension = originalFileName.substring(originalFileName.lastIndexOf("."));
+        }
+        return folder + "/" + UUID.randomUUID() + extension;
+    }
+}
@@ -1,49 +1,189 @@
 package com.resumescreening.api.service;
 
+import com.resumescreening.api.util.DocxTextExtractor;
+import com.resumescreening.api.util.TextNormalizer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.io.RandomAccessReadBufferedFile;
+import org.apache.pdfbox.io.RandomAccessStreamCache;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
-import org.apache.poi.xwpf.usermodel.XWPFDocument;
-import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @Slf4j
 public class TextExtractionService {
 
-    // Extract text from PDF
+    // PDFBox scratch buffers: up to maxMainMemory on the heap, the rest spills to temp files
+    private final RandomAccessStreamCache.StreamCacheCreateFunction pdfStreamCache;
+
+    // Long PDFs are split into page ranges; the calling extraction worker strips the first range and
+    // helpers from this pool the others. Every worker loads the document once, not once per range
+    private final ExecutorService pagePool;
+    private final int pageThreads;
+    private final int parallelPageThreshold;
+    private final int pagesPerTask;
+    // Long PDFs being stripped right now - they share the page threads
+    private final AtomicInteger parallelDocuments = new AtomicInteger();
+
+    public TextExtractionService(@Value("${text-extraction.pdf.max-main-memory:4MB}") DataSize maxMainMemory,
+                                 @Value("${text-extraction.pdf.max-storage:256MB}") DataSize maxStorage,
+                                 @Value("${text-extraction.pdf.parallel-page-threshold:20}") int parallelPageThreshold,
+                                 @Value("${text-extraction.pdf.pages-per-task:8}") int pagesPerTask,
+                                 @Value("${text-extraction.pdf.parallelism:0}") int parallelism,
+                                 @Value("${text-extraction.workers.threads:0}") int extractionThreads) {
+        this.pdfStreamCache = MemoryUsageSetting
+                .setupMixed(maxMainMemory.toBytes(), maxStorage.toBytes())
+                .streamCache;
+        this.parallelPageThreshold = parallelPageThreshold;
+        this.pagesPerTask = Math.max(1, pagesPerTask);
+
+        // The caller already holds an ExtractionWorkerPool thread and counts as one page worker, so the pool
+        // only has pageThreads - 1 helpers, shared by all documents. With every extraction worker on a long
+        // PDF, each document gets pageThreads / extractionWorkers workers
+        int cpus = Runtime.getRuntime().availableProcessors();
+        int extractionWorkers = extractionThreads > 0 ? extractionThreads : cpus;
+        this.pageThreads = parallelism > 0 ? parallelism : cpus;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.pagePool = Executors.newFixedThreadPool(Math.max(1, pageThreads - 1), runnable -> {
+            Thread thread = new Thread(runnable, "pdf-pages-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("PDF page workers: {} per document at most, {} per document with all {} extraction workers busy",
+                pageThreads, Math.max(1, pageThreads / extractionWorkers), extractionWorkers);
+    }
+
+    // Extract text from PDF - the stream is spooled to a temp file instead of a byte array
     public String extractTextFromPdf(InputStream inputStream) {
-        try (PDDocument document = Loader.loadPDF(inputStream.readAllBytes())) {
-            PDFTextStripper stripper = new PDFTextStripper();
-            String text = stripper.getText(document);
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("resume-", ".pdf");
+            Files.copy(inputStream, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            return extractTextFromPdf(tempFile);
+
+        } catch (IOException e) {
+            log.error("Error spooling PDF to disk: {}", e.getMessage());
+            throw new RuntimeException("Failed to extract text from PDF", e);
+        } finally {
+            deleteQuietly(tempFile);
+        }
+    }
+
+    // Extract text from a PDF on disk - PDFBox reads it randomly instead of loading it whole
+    public String extractTextFromPdf(Path path) {
+        try {
+            String text;
+            int pageCount;
+            try (PDDocument document = loadPdf(path)) {
+                pageCount = document.getNumberOfPages();
+                // Short resumes keep the cheap single-threaded path
+                text = pageCount < parallelPageThreshold ? new PDFTextStripper().getText(document) : null;
+            }
+            if (text == null) {
+                text = stripInParallel(path, pageCount);
+            }
 
             log.info("Extracted {} characters from PDF", text.length());
             return cleanText(text);
 
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             log.error("Error extracting text from PDF: {}", e.getMessage());
             throw new RuntimeException("Failed to extract text from PDF", e);
         }
     }
 
-    // Extract text from DOCX
-    public String extractTextFromDocx(InputStream inputStream) {
-        try (XWPFDocument document = new XWPFDocument(inputStream)) {
-            StringBuilder text = new StringBuilder();
+    private PDDocument loadPdf(Path path) throws IOException {
+        return Loader.loadPDF(new RandomAccessReadBufferedFile(path), "", pdfStreamCache);
+    }
+
+    // Workers = min(page threads / long PDFs in flight, ranges of pagesPerTask pages), each with its own
+    // PDDocument (not thread-safe) and a contiguous slice of pages, so the text is stitched back in page order
+    private String stripInParallel(Path path, int pageCount) throws IOException {
+        int documents = parallelDocuments.incrementAndGet();
+        List<Future<String>> helpers = new ArrayList<>();
+        try {
+            int ranges = (pageCount + pagesPerTask - 1) / pagesPerTask;
+            int workers = Math.min(Math.max(1, pageThreads / documents), ranges);
+            int pagesPerWorker = (pageCount + workers - 1) / workers;
 
-            List<XWPFParagraph> paragraphs = document.getParagraphs();
-            for (XWPFParagraph paragraph : paragraphs) {
-                text.append(paragraph.getText()).append("\n");
+            for (int start = pagesPerWorker + 1; start <= pageCount; start += pagesPerWorker) {
+                int first = start;
+                int last = Math.min(pageCount, start + pagesPerWorker - 1);
+                helpers.add(pagePool.submit(() -> stripPages(path, first, last)));
             }
+            StringBuilder text = new StringBuilder(stripPages(path, 1, Math.min(pageCount, pagesPerWorker)));
+            for (Future<String> helper : helpers) {
+                text.append(helper.get());
+            }
+            log.info("Extracted {} pages with {} workers", pageCount, helpers.size() + 1);
+            return text.toString();
 
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IOException("Failed to extract PDF pages", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while extracting PDF pages", e);
+        } finally {
+            helpers.forEach(helper -> helper.cancel(true));
+            parallelDocuments.decrementAndGet();
+        }
+    }
+
+    // Text of pages startPage..endPage (1-based, inclusive)
+    private String stripPages(Path path, int startPage, int endPage) throws IOException {
+        try (PDDocument document = loadPdf(path)) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setStartPage(startPage);
+            stripper.setEndPage(endPage);
+            return stripper.getText(document);
+        }
+    }
+
+    // Extract text from DOCX - streamed with StAX, paragraphs and table cells included
+    public String extractTextFromDocx(InputStream inputStream) {
+        try {
+            String text = DocxTextExtractor.extract(inputStream);
             log.info("Extracted {} characters from DOCX", text.length());
-            return cleanText(text.toString());
+            return cleanText(text);
+
+        } catch (IOException e) {
+            log.error("Error extracting text from DOCX: {}", e.getMessage());
+            throw new RuntimeException("Failed to extract text from DOCX", e);
+        }
+    }
+
+    // Extract text from a DOCX on disk - only word/document.xml is read
+    public String extractTextFromDocx(Path path) {
+        try {
+            String text = DocxTextExtractor.extract(path);
+            log.info("Extracted {} characters from DOCX", text.length());
+            return cleanText(text);
 
         } catch (IOException e) {
             log.error("Error extracting text from DOCX: {}", e.getMessage());
@@ -64,15 +204,35 @@ public class TextExtractionService {
         }
     }
 
-    // Clean extracted text
-    private String cleanText(String text) {
-        if (text == null) {
-            return "";
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
         }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file {}: {}", path, e.getMessage());
+        }
+    }
 
-        return text
-                .replaceAll("\\s+", " ")  // Multiple spaces to single space
-                .replaceAll("\\r\\n|\\r|\\n", " ")  // Remove line breaks
-                .trim();
+    // Extract text from a file on disk based on file type
+    public String extractText(Path path, String contentType) {
+        if ("application/pdf".equals(contentType)) {
+            return extractTextFromPdf(path);
+        } else if ("application/vnd.openxmlformats-officedocument.wordprocessingml.document".equals(contentType)) {
+            return extractTextFromDocx(path);
+        } else {
+            throw new IllegalArgumentException("Unsupported file type: " + contentType);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pagePool.shutdown();
+    }
+
+    // Clean extracted text - one pass, see TextNormalizer
+    private String cleanText(String text) {
+        return TextNormalizer.DEFAULT.normalize(text);
     }
 }
\ No newline at end of file
@@ -0,0 +1,237 @@
+package com.resumescreening.api.util;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.function.LongSupplier;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Streaming text extraction for DOCX files.
+ * - Reads word/document.xml with StAX, so no document model is ever built
+ * - Paragraphs end with a line break; table cells are tab-separated and rows end with a line break,
+ *   so skills kept in tables are not lost
+ * - DTDs and external entities are disabled
+ * - Zip bombs are refused: word/document.xml may inflate to at most 32MB and, past the first 1MB,
+ *   to at most 100x its compressed size (the checks POI's ZipSecureFile did for XWPF)
+ * - Text stops at MAX_TEXT_CHARS; anything longer is not a resume, and memory stays bounded
+ */
+public final class DocxTextExtractor {
+
+    private static final String DOCUMENT_PART = "word/document.xml";
+    private static final String TRANSITIONAL_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String STRICT_NS = "http://purl.oclc.org/ooxml/wordprocessingml/main";
+
+    public static final int MAX_TEXT_CHARS = 1_000_000;
+    static final long MAX_INFLATED_BYTES = 32L * 1024 * 1024;
+    static final long MAX_INFLATE_RATIO = 100;
+    private static final long RATIO_GRACE_BYTES = 1024 * 1024;
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private DocxTextExtractor() {
+    }
+
+    // From a file on disk - the zip directory is read directly, no scan through the archive
+    public static String extract(Path path) throws IOException {
+        try (ZipFile zipFile = new ZipFile(path.toFile())) {
+            ZipEntry entry = zipFile.getEntry(DOCUMENT_PART);
+            if (entry == null) {
+                throw new IOException("Not a DOCX file: missing " + DOCUMENT_PART);
+            }
+            // ZipFile never reads more than the entry's compressed size from the archive
+            long compressedSize = entry.getCompressedSize();
+            try (InputStream in = new InflateLimitInputStream(zipFile.getInputStream(entry), () -> compressedSize)) {
+                return extractDocumentXml(in);
+            }
+        }
+    }
+
+    // From a stream - entries are skipped until word/document.xml comes along
+    public static String extract(InputStream inputStream) throws IOException {
+        // Compressed sizes in local headers may be missing, so count the archive bytes actually consumed
+        CountingInputStream archive = new CountingInputStream(inputStream);
+        ZipInputStream zip = new ZipInputStream(archive);
+        for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+            if (DOCUMENT_PART.equals(entry.getName())) {
+                long entryStart = archive.count();
+                return extractDocumentXml(new InflateLimitInputStream(zip, () -> archive.count() - entryStart));
+            }
+        }
+        throw new IOException("Not a DOCX file: missing " + DOCUMENT_PART);
+    }
+
+    private static String extractDocumentXml(InputStream in) throws IOException {
+        StringBuilder text = new StringBuilder(4096);
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            boolean inText = false;
+            int cellDepth = 0;
+
+            while (reader.hasNext() && text.length() < MAX_TEXT_CHARS) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT && isWordElement(reader)) {
+                    switch (reader.getLocalName()) {
+                        case "t" -> inText = true;
+                        case "tc" -> cellDepth++;
+                        case "tab" -> text.append('\t');
+                        case "br", "cr" -> text.append('\n');
+                        default -> { }
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT && isWordElement(reader)) {
+                    switch (reader.getLocalName()) {
+                        case "t" -> inText = false;
+                        // Paragraphs inside a cell stay on the row's line
+                        case "p" -> text.append(cellDepth > 0 ? ' ' : '\n');
+                        case "tc" -> {
+                            cellDepth--;
+                            trimTrailing(text, ' ');
+                            text.append('\t');
+                        }
+                        case "tr" -> {
+                            trimTrailing(text, '\t');
+                            text.append('\n');
+                        }
+                        default -> { }
+                    }
+                } else if (inText && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)) {
+                    text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                }
+            }
+            if (text.length() > MAX_TEXT_CHARS) {
+                text.setLength(MAX_TEXT_CHARS);
+            }
+            return text.toString();
+
+        } catch (XMLStreamException e) {
+            // The inflate limits surface through the XML parser
+            if (e.getCause() instanceof IOException cause) {
+                throw cause;
+            }
+            throw new IOException("Malformed " + DOCUMENT_PART + ": " + e.getMessage(), e);
+        } finally {
+            closeQuietly(reader);
+        }
+    }
+
+    // Fails the read once the inflated size or the inflate ratio looks like a zip bomb
+    private static final class InflateLimitInputStream extends FilterInputStream {
+
+        private final LongSupplier compressedBytes;
+        private long inflated;
+
+        InflateLimitInputStream(InputStream in, LongSupplier compressedBytes) {
+            super(in);
+            this.compressedBytes = compressedBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                inflated(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                inflated(n);
+            }
+            return n;
+        }
+
+        private void inflated(int n) throws IOException {
+            inflated += n;
+            if (inflated > MAX_INFLATED_BYTES) {
+                throw new IOException(DOCUMENT_PART + " inflates to more than " + MAX_INFLATED_BYTES + " bytes");
+            }
+            long compressed = Math.max(compressedBytes.getAsLong(), 1);
+            if (inflated > RATIO_GRACE_BYTES && inflated / compressed > MAX_INFLATE_RATIO) {
+                throw new IOException(DOCUMENT_PART + " inflates more than " + MAX_INFLATE_RATIO
+                        + "x, refusing a possible zip bomb");
+            }
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        long count() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+
+    private static void trimTrailing(StringBuilder text, char c) {
+        int length = text.length();
+        while (length > 0 && text.charAt(length - 1) == c) {
+            length--;
+        }
+        text.setLength(length);
+    }
+
+    private static boolean isWordElement(XMLStreamReader reader) {
+        String namespace = reader.getNamespaceURI();
+        return TRANSITIONAL_NS.equals(namespace) || STRICT_NS.equals(namespace);
+    }
+
+    private static void closeQuietly(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException ignored) {
+            // Nothing left to release
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, false);
+        return factory;
+    }
+}
@@ -2,9 +2,15 @@ package com.resumescreening.api.util;
 
 import com.resumescreening.api.model.dto.response.*;
 import com.resumescreening.api.model.entity.*;
+import com.resumescreening.api.model.enums.BatchRunStatus;
+import com.resumescreening.api.model.projection.ApplicationRow;
+import com.resumescreening.api.model.projection.ScreeningResultRow;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.hibernate.Hibernate;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 public class DtoMapper {
 
     static {
@@ -89,6 +95,31 @@ public class DtoMapper {
                 .build();
     }
 
+    public static ScreeningResultResponse toScreeningResultResponse(ScreeningResultRow row) {
+        return ScreeningResultResponse.builder()
+                .id(row.id())
+                .applicationId(row.applicationId())
+                .jobPostingId(row.jobPostingId())
+                .jobTitle(row.jobTitle())
+                .resumeId(row.resumeId())
+                .candidateName(row.candidateName())
+                .candidateEmail(row.candidateEmail())
+                .matchScore(row.matchScore())
+                .skillMatchScore(row.skillMatchScore())
+                .experienceMatchScore(row.experienceMatchScore())
+                .educationMatchScore(row.educationMatchScore())
+                .recommendation(row.recommendation())
+                .matchedSkills(row.matchedSkills())
+                .missingSkills(row.missingSkills())
+                .strengths(row.strengths())
+                .weaknesses(row.weaknesses())
+                .aiAnalysis(row.aiAnalysis())
+                .processingTimeMs(row.processingTimeMs())
+                .screenedAt(row.screenedAt())
+                .createdAt(row.createdAt())
+                .build();
+    }
+
     public static ApplicationResponse toApplicationResponse(Application application) {
         if (application == null) {
             return null;
@@ -120,4 +151,65 @@ public class DtoMapper {
         }
         return builder.build();
     }
-}
\ No newline at end of file
+
+    public static ApplicationResponse toApplicationResponse(ApplicationRow row) {
+        return ApplicationResponse.builder()
+                .id(row.id())
+                .jobId(row.jobId())
+                .jobTitle(row.jobTitle())
+                .candidateId(row.candidateId())
+                .candidateName(row.candidateName())
+                .candidateEmail(row.candidateEmail())
+                .resumeId(row.resumeId())
+                .resumeTitle(row.resumeTitle())
+                .status(row.status())
+                .coverLetter(row.coverLetter())
+                .appliedAt(row.appliedAt())
+                .screenedAt(row.screenedAt())
+                .build();
+    }
+
+    public static BatchRunResponse toBatchRunResponse(BatchScreeningRun run) {
+        if (run == null) {
+            return null;
+        }
+        int total = run.getTotalCount();
+        int processed = run.getProcessedCount();
+        int remaining = Math.max(total - processed, 0);
+
+        // Throughput of the current segment only: items this owner processed since it (re)started the run.
+        // Work found already done and time the run sat unowned are excluded; ETA only while still running
+        Double throughputPerMinute = null;
+        Long etaSeconds = null;
+        int segmentProcessed = processed - run.getProcessedAtSegmentStart();
+        if (run.getSegmentStartedAt() != null && segmentProcessed > 0) {
+            LocalDateTime end = run.getCompletedAt() != null ? run.getCompletedAt() : LocalDateTime.now();
+            long elapsedMs = Duration.between(run.getSegmentStartedAt(), end).toMillis();
+            if (elapsedMs > 0) {
+                throughputPerMinute = segmentProcessed * 60_000.0 / elapsedMs;
+                if (run.getStatus() == BatchRunStatus.RUNNING) {
+                    etaSeconds = Math.round(remaining * 60.0 / throughputPerMinute);
+                }
+            }
+        }
+
+        return BatchRunResponse.builder()
+                .runId(run.getId())
+                .jobPostingId(run.getJobPosting().getId())
+                .recruiterId(run.getRecruiter().getId())
+                .status(run.getStatus())
+                .totalApplications(total)
+                .processed(processed)
+                .screened(processed - run.getFailedCount() - run.getSkippedCount())
+                .skipped(run.getSkippedCount())
+                .failed(run.getFailedCount())
+                .remaining(remaining)
+                .throughputPerMinute(throughputPerMinute)
+                .etaSeconds(etaSeconds)
+                .lastError(run.getLastError())
+                .createdAt(run.getCreatedAt())
+                .startedAt(run.getStartedAt())
+                .completedAt(run.getCompletedAt())
+                .build();
+    }
+}
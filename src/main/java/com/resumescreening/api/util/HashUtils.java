@@ -0,0 +1,33 @@
+package com.resumescreening.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class HashUtils {
+
+    private HashUtils() {
+    }
+
+    // SHA-256 of several strings. Each part is length-prefixed, so ("ab", "c") and ("a", "bc") differ
+    public static String sha256Hex(String... parts) {
+        MessageDigest digest = newSha256();
+        for (String part : parts) {
+            byte[] bytes = (part != null ? part : "").getBytes(StandardCharsets.UTF_8);
+            digest.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+            digest.update((byte) ':');
+            digest.update(bytes);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE is required to ship SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
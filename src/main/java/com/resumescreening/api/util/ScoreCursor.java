@@ -0,0 +1,28 @@
+package com.resumescreening.api.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position in a list ordered by (matchScore DESC, id ASC): the last row a client has seen.
+ * Sent to clients as an opaque URL-safe token, so the ordering can change without breaking the API shape.
+ */
+public record ScoreCursor(int score, long id) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((score + ":" + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // Tokens are client input - anything malformed is a bad request, not a server error
+    public static ScoreCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+            int separator = value.indexOf(':');
+            return new ScoreCursor(Integer.parseInt(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
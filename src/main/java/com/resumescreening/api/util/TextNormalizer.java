@@ -0,0 +1,141 @@
+package com.resumescreening.api.util;
+
+import java.util.Arrays;
+
+/**
+ * Single-pass normalizer for text extracted from resumes.
+ * - Collapses every whitespace run (line breaks and no-break spaces included) to one space and trims
+ * - Drops control and format characters (zero-width spaces, BOMs, soft hyphens)
+ * - Expands ligatures and maps typographic quotes/dashes to ASCII
+ * - Joins words hyphenated across a line break ("experi-\nence" -> "experience")
+ * Works on a char buffer and allocates only the result; instances are immutable and thread-safe.
+ */
+public final class TextNormalizer {
+
+    public static final TextNormalizer DEFAULT = new TextNormalizer(Options.ALL);
+
+    private final boolean collapseWhitespace;
+    private final boolean stripControlCharacters;
+    private final boolean normalizeCharacters;
+    private final boolean joinHyphenatedWords;
+
+    public TextNormalizer(Options options) {
+        this.collapseWhitespace = options.collapseWhitespace();
+        this.stripControlCharacters = options.stripControlCharacters();
+        this.normalizeCharacters = options.normalizeCharacters();
+        this.joinHyphenatedWords = options.joinHyphenatedWords();
+    }
+
+    public String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        int length = text.length();
+        char[] out = new char[length];
+        int size = 0;
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (collapseWhitespace && isSpace(c)) {
+                // Leading whitespace is dropped, trailing whitespace is never flushed
+                pendingSpace = size > 0;
+                continue;
+            }
+
+            if (joinHyphenatedWords && isHyphen(c) && !pendingSpace && size > 0 && Character.isLetter(out[size - 1])) {
+                int next = skipLineBreak(text, i + 1);
+                if (next > 0) {
+                    i = next - 1;
+                    continue;
+                }
+            }
+
+            if (stripControlCharacters && isControl(c) && !isSpace(c)) {
+                continue;
+            }
+
+            String replacement = normalizeCharacters ? replacement(c) : null;
+            int needed = (replacement != null ? replacement.length() : 1) + (pendingSpace ? 1 : 0);
+            if (size + needed > out.length) {
+                out = Arrays.copyOf(out, Math.max(out.length * 2, size + needed));
+            }
+
+            if (pendingSpace) {
+                out[size++] = ' ';
+                pendingSpace = false;
+            }
+            if (replacement != null) {
+                replacement.getChars(0, replacement.length(), out, size);
+                size += replacement.length();
+            } else {
+                out[size++] = c;
+            }
+        }
+
+        return new String(out, 0, size);
+    }
+
+    // Index of the lowercase letter after "-<spaces><line break><spaces>", or -1 if this is a real hyphen
+    private static int skipLineBreak(String text, int from) {
+        boolean sawLineBreak = false;
+        int i = from;
+        while (i < text.length() && isSpace(text.charAt(i))) {
+            sawLineBreak |= isLineBreak(text.charAt(i));
+            i++;
+        }
+        if (sawLineBreak && i < text.length() && Character.isLowerCase(text.charAt(i))) {
+            return i;
+        }
+        return -1;
+    }
+
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t'
+                || (c > ' ' && (Character.isWhitespace(c) || Character.isSpaceChar(c)));
+    }
+
+    private static boolean isLineBreak(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isHyphen(char c) {
+        return c == '-' || c == '\u2010' || c == '\u00AD';
+    }
+
+    private static boolean isControl(char c) {
+        if (c >= ' ' && c < '\u007F') {
+            return false;
+        }
+        int type = Character.getType(c);
+        return type == Character.CONTROL || type == Character.FORMAT;
+    }
+
+    // Compiles to a table lookup - no per-call allocation
+    private static String replacement(char c) {
+        return switch (c) {
+            case '\uFB00' -> "ff";
+            case '\uFB01' -> "fi";
+            case '\uFB02' -> "fl";
+            case '\uFB03' -> "ffi";
+            case '\uFB04' -> "ffl";
+            case '\uFB05', '\uFB06' -> "st";
+            case '\u2018', '\u2019', '\u201A', '\u201B', '\u2032' -> "'";
+            case '\u201C', '\u201D', '\u201E', '\u201F', '\u2033' -> "\"";
+            case '\u2010', '\u2011', '\u2012', '\u2013', '\u2014', '\u2015', '\u2212' -> "-";
+            case '\u2026' -> "...";
+            default -> null;
+        };
+    }
+
+    // Which normalization steps to apply - fixed per instance
+    public record Options(boolean collapseWhitespace,
+                          boolean stripControlCharacters,
+                          boolean normalizeCharacters,
+                          boolean joinHyphenatedWords) {
+
+        public static final Options ALL = new Options(true, true, true, true);
+    }
+}
@@ -0,0 +1,185 @@
+package com.resumescreening.api.benchmark;
+
+import com.resumescreening.api.model.dto.response.ApplicationResponse;
+import com.resumescreening.api.model.entity.Application;
+import com.resumescreening.api.model.entity.ApiUsage;
+import com.resumescreening.api.model.entity.BatchScreeningRun;
+import com.resumescreening.api.model.entity.JobPosting;
+import com.resumescreening.api.model.entity.Resume;
+import com.resumescreening.api.model.entity.ScreeningResult;
+import com.resumescreening.api.model.entity.User;
+import com.resumescreening.api.model.enums.Role;
+import com.resumescreening.api.model.projection.ApplicationRow;
+import com.resumescreening.api.repository.ApplicationRepository;
+import com.resumescreening.api.support.PostgresTestDatabase;
+import com.resumescreening.api.support.TestData;
+import com.resumescreening.api.util.DtoMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-job application list: fetch-joined entities mapped by DtoMapper (before) vs the ApplicationRow projection (after).
+ * - Each operation is one list request in a read-only session, like ApplicationService.getApplicationsForJob
+ * - Every resume carries a few pages of extracted text and parsed JSON, which only the entity path reads
+ * - ops/s is requests per second, the "rows" counter is rows per second; run with -prof gc for
+ *   gc.alloc.rate.norm, the heap allocated per request
+ * Needs Postgres: Docker for Testcontainers, or an existing database via
+ * -Dtest.postgres.url=jdbc:postgresql://host:port/db -Dtest.postgres.username=... -Dtest.postgres.password=...
+ * e.g. java -cp target/test-classes:target/classes:$(cat cp.txt) -Dtest.postgres.url=... org.openjdk.jmh.Main
+ * ApplicationListBenchmark -prof gc (cp.txt from mvn dependency:build-classpath -Dmdep.outputFile=cp.txt)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApplicationListBenchmark {
+
+    // The fetch-join query the projection replaced
+    private static final String ENTITY_QUERY = "SELECT a FROM Application a " +
+            "LEFT JOIN FETCH a.jobPosting " +
+            "LEFT JOIN FETCH a.candidate " +
+            "LEFT JOIN FETCH a.resume " +
+            "WHERE a.jobPosting.id = :jobPostingId " +
+            "ORDER BY a.appliedAt DESC, a.id";
+
+    private static final String ROW_QUERY = ApplicationRepository.APPLICATION_ROW +
+            "WHERE j.id = :jobPostingId " +
+            "ORDER BY a.appliedAt DESC, a.id";
+
+    @Param({"20", "200"})
+    private int rows;
+
+    private HikariDataSource dataSource;
+    private SessionFactory sessionFactory;
+    private Long jobId;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class RowCounter {
+        public long rows;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            rows = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(PostgresTestDatabase.jdbcUrl());
+        dataSource.setUsername(PostgresTestDatabase.username());
+        dataSource.setPassword(PostgresTestDatabase.password());
+
+        Configuration configuration = new Configuration();
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource);
+        configuration.setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        for (Class<?> entity : List.of(User.class, JobPosting.class, Resume.class, Application.class,
+                ScreeningResult.class, BatchScreeningRun.class, ApiUsage.class)) {
+            configuration.addAnnotatedClass(entity);
+        }
+        sessionFactory = configuration.buildSessionFactory();
+
+        // Resume-sized synthetic payloads: ~4 pages of ResumeCorpus text and a few KB of parsed JSON per applicant
+        String extractedText = ResumeCorpus.generate(4);
+        String parsedData = parsedData();
+        sessionFactory.inTransaction(session -> {
+            JobPosting job = TestData.job(session, TestData.user(session, Role.RECRUITER));
+            for (int i = 0; i < rows; i++) {
+                User candidate = TestData.user(session, Role.CANDIDATE);
+                TestData.application(session, job, candidate,
+                        TestData.resume(session, candidate, extractedText, parsedData));
+            }
+            jobId = job.getId();
+        });
+
+        System.out.printf("%n%d applications, %d chars of extracted text and %d chars of parsed data per resume%n",
+                rows, extractedText.length(), parsedData.length());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close(); // create-drop removes the schema
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<ApplicationResponse> entities(RowCounter counter) {
+        try (Session session = readOnlySession()) {
+            List<ApplicationResponse> responses = session.createSelectionQuery(ENTITY_QUERY, Application.class)
+                    .setParameter("jobPostingId", jobId)
+                    .getResultList().stream()
+                    .map(DtoMapper::toApplicationResponse)
+                    .toList();
+            counter.rows += responses.size();
+            return responses;
+        }
+    }
+
+    @Benchmark
+    public List<ApplicationResponse> projection(RowCounter counter) {
+        try (Session session = readOnlySession()) {
+            List<ApplicationResponse> responses = session.createSelectionQuery(ROW_QUERY, ApplicationRow.class)
+                    .setParameter("jobPostingId", jobId)
+                    .getResultList().stream()
+                    .map(DtoMapper::toApplicationResponse)
+                    .toList();
+            counter.rows += responses.size();
+            return responses;
+        }
+    }
+
+    // What @Transactional(readOnly = true) does to the Hibernate session: no dirty-checking snapshots
+    private Session readOnlySession() {
+        Session session = sessionFactory.openSession();
+        session.setDefaultReadOnly(true);
+        return session;
+    }
+
+    private static String parsedData() {
+        StringBuilder json = new StringBuilder("{\"skills\":[");
+        for (int i = 0; i < 60; i++) {
+            json.append(i == 0 ? "" : ",").append("\"Skill ").append(i).append('"');
+        }
+        json.append("],\"experience\":[");
+        for (int i = 0; i < 8; i++) {
+            json.append(i == 0 ? "" : ",")
+                    .append("{\"company\":\"Company ").append(i)
+                    .append("\",\"title\":\"Senior Software Engineer\",\"years\":").append(i + 1)
+                    .append(",\"summary\":\"Built and operated high-throughput Java services on Postgres and Kafka.\"}");
+        }
+        return json.append("]}").toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ApplicationListBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build()).run();
+    }
+}
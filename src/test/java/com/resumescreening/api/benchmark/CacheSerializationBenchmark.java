@@ -0,0 +1,147 @@
+package com.resumescreening.api.benchmark;
+
+import com.resumescreening.api.cache.SmileRedisSerializer;
+import com.resumescreening.api.model.dto.response.ScreeningResultResponse;
+import com.resumescreening.api.model.enums.Recommendation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJacksonJsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * jobScreeningResults values: default-typed JSON (before) vs typed Smile, with and without LZ4.
+ * Payload sizes are printed once per trial, since JMH only reports time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheSerializationBenchmark {
+
+    private static final String VALUE_TYPE =
+            "java.util.List<com.resumescreening.api.model.dto.response.ScreeningResultResponse>";
+
+    @Param({"20", "200"})
+    private int results;
+
+    private RedisSerializer<Object> json;
+    private RedisSerializer<Object> smile;
+    private RedisSerializer<Object> smileLz4;
+
+    private List<ScreeningResultResponse> value;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+    private byte[] smileLz4Bytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Same settings as RedisConfig.createJsonSerializer
+        json = GenericJacksonJsonRedisSerializer.builder()
+                .enableUnsafeDefaultTyping()
+                .enableSpringCacheNullValueSupport()
+                .build();
+        smile = new SmileRedisSerializer(SmileRedisSerializer.resolveType(VALUE_TYPE), -1);
+        smileLz4 = new SmileRedisSerializer(SmileRedisSerializer.resolveType(VALUE_TYPE), 2048);
+
+        value = screeningResults(results);
+        jsonBytes = json.serialize(value);
+        smileBytes = smile.serialize(value);
+        smileLz4Bytes = smileLz4.serialize(value);
+
+        System.out.printf("%n%d results: json=%d bytes, smile=%d bytes, smile+lz4=%d bytes%n",
+                results, jsonBytes.length, smileBytes.length, smileLz4Bytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize() {
+        return json.serialize(value);
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] smileSerialize() {
+        return smile.serialize(value);
+    }
+
+    @Benchmark
+    public Object smileDeserialize() {
+        return smile.deserialize(smileBytes);
+    }
+
+    @Benchmark
+    public byte[] smileLz4Serialize() {
+        return smileLz4.serialize(value);
+    }
+
+    @Benchmark
+    public Object smileLz4Deserialize() {
+        return smileLz4.deserialize(smileLz4Bytes);
+    }
+
+    // Shaped like real screening output: free-text analysis dominates the payload
+    private static List<ScreeningResultResponse> screeningResults(int count) {
+        Random random = new Random(42);
+        String[] skills = {"Java", "Spring Boot", "PostgreSQL", "Kafka", "Redis", "Kubernetes", "AWS", "Terraform"};
+        List<ScreeningResultResponse> list = new ArrayList<>(count);
+        for (long i = 1; i <= count; i++) {
+            int split = 1 + random.nextInt(skills.length - 1);
+            list.add(ScreeningResultResponse.builder()
+                    .id(i)
+                    .applicationId(1000 + i)
+                    .jobPostingId(42L)
+                    .jobTitle("Senior Backend Engineer")
+                    .resumeId(5000 + i)
+                    .candidateName("Candidate " + i)
+                    .candidateEmail("candidate" + i + "@example.com")
+                    .matchScore(40 + random.nextInt(60))
+                    .skillMatchScore(40 + random.nextInt(60))
+                    .experienceMatchScore(40 + random.nextInt(60))
+                    .educationMatchScore(40 + random.nextInt(60))
+                    .recommendation(Recommendation.values()[random.nextInt(Recommendation.values().length)])
+                    .matchedSkills(List.of(skills).subList(0, split))
+                    .missingSkills(List.of(skills).subList(split, skills.length))
+                    .strengths("Eight years building high-throughput Java services; led a monolith "
+                            + "to microservices migration and owns the team's caching layer.")
+                    .weaknesses("Limited hands-on Kubernetes operations; no production Terraform experience.")
+                    .aiAnalysis("The candidate matches most of the required backend skills and has "
+                            + "relevant seniority. Gaps are in infrastructure tooling, which the team "
+                            + "can cover during onboarding. Recommended for a technical interview.")
+                    .processingTimeMs(800L + random.nextInt(4000))
+                    .screenedAt(LocalDateTime.of(2026, 1, 15, 10, 30).plusMinutes(i))
+                    .createdAt(LocalDateTime.of(2026, 1, 15, 10, 30).plusMinutes(i))
+                    .build());
+        }
+        return list;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheSerializationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,106 @@
+package com.resumescreening.api.benchmark;
+
+import com.resumescreening.api.util.DocxTextExtractor;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building an XWPFDocument and walking its paragraphs (before) vs DocxTextExtractor's StAX pass (after).
+ * - The DOCX is written once per trial from synthetic ResumeCorpus lines, with a small table every 40 paragraphs
+ * - staxFromFile reads the zip directory of the temp file, staxFromStream scans an upload-style stream
+ * - xwpfParagraphs skips table text, so the StAX sides do slightly more work for the same file
+ * - Most of the gap is the XWPF object model, which -prof gc makes visible as bytes per extraction
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DocxExtractionBenchmark {
+
+    @Param({"2", "20"})
+    private int pages;
+
+    private Path docx;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        docx = Files.createTempFile("benchmark-", ".docx");
+        String[] lines = ResumeCorpus.generate(pages).split("\n");
+
+        try (XWPFDocument document = new XWPFDocument(); OutputStream out = Files.newOutputStream(docx)) {
+            for (int i = 0; i < lines.length; i++) {
+                document.createParagraph().createRun().setText(lines[i]);
+                // A skills table every few dozen lines, like a typical two-column resume
+                if (i % 40 == 0) {
+                    XWPFTable table = document.createTable(4, 3);
+                    for (int row = 0; row < 4; row++) {
+                        for (int cell = 0; cell < 3; cell++) {
+                            table.getRow(row).getCell(cell).setText(lines[(i + row + cell) % lines.length]);
+                        }
+                    }
+                }
+            }
+            document.write(out);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(docx);
+    }
+
+    @Benchmark
+    public String xwpfParagraphs() throws IOException {
+        try (InputStream in = Files.newInputStream(docx); XWPFDocument document = new XWPFDocument(in)) {
+            StringBuilder text = new StringBuilder();
+            for (XWPFParagraph paragraph : document.getParagraphs()) {
+                text.append(paragraph.getText()).append("\n");
+            }
+            return text.toString();
+        }
+    }
+
+    @Benchmark
+    public String staxFromFile() throws IOException {
+        return DocxTextExtractor.extract(docx);
+    }
+
+    @Benchmark
+    public String staxFromStream() throws IOException {
+        try (InputStream in = Files.newInputStream(docx)) {
+            return DocxTextExtractor.extract(in);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DocxExtractionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
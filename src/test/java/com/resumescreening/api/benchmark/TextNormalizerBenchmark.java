@@ -0,0 +1,65 @@
+package com.resumescreening.api.benchmark;
+
+import com.resumescreening.api.util.TextNormalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regex-based cleanText (before) vs TextNormalizer (after), per extracted resume.
+ * - The input is synthetic (ResumeCorpus), not real resumes: generated PDF-style lines carrying the
+ *   hyphenation, ligatures, smart quotes and CRLFs TextNormalizer handles; no resume corpus is checked in
+ * - The two sides do not return the same text, TextNormalizer also rejoins words and folds characters,
+ *   so this compares cost only
+ * - pages=20 stands in for a long CV; -prof gc shows the intermediate strings each replaceAll pass leaves behind
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextNormalizerBenchmark {
+
+    @Param({"2", "20"})
+    private int pages;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        text = ResumeCorpus.generate(pages);
+    }
+
+    @Benchmark
+    public String regexCleanText() {
+        return text
+                .replaceAll("\\s+", " ")
+                .replaceAll("\\r\\n|\\r|\\n", " ")
+                .trim();
+    }
+
+    @Benchmark
+    public String textNormalizer() {
+        return TextNormalizer.DEFAULT.normalize(text);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TextNormalizerBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
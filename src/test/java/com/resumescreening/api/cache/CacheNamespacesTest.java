@@ -0,0 +1,68 @@
+package com.resumescreening.api.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CacheNamespacesTest {
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> values;
+    private CacheInvalidationBus bus;
+    private CacheNamespaces namespaces;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        bus = new CacheInvalidationBus(redisTemplate, "cache:invalidation");
+        namespaces = new CacheNamespaces(redisTemplate, bus, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void keysCarryTheCurrentVersion() {
+        when(values.get("cache:ns:activeJobs")).thenReturn("7");
+
+        assertThat(namespaces.key("activeJobs", 0, 20)).isEqualTo("v7:0:20");
+        assertThat(namespaces.key("activeJobs", 1, 20)).isEqualTo("v7:1:20");
+        verify(values, times(1)).get("cache:ns:activeJobs");  // Held locally after the first read
+    }
+
+    @Test
+    void bumpMovesToNewVersionAndAnnouncesIt() {
+        when(values.get("cache:ns:activeJobs")).thenReturn("7");
+        when(values.increment("cache:ns:activeJobs")).thenReturn(8L);
+        namespaces.key("activeJobs");
+
+        namespaces.bump("activeJobs");
+
+        assertThat(namespaces.key("activeJobs", 0)).isEqualTo("v8:0");
+        verify(redisTemplate).convertAndSend(eq("cache:invalidation"), startsWith("N|"));
+    }
+
+    @Test
+    void bumpFromOtherNodeDropsLocalVersion() {
+        when(values.get("cache:ns:activeJobs")).thenReturn("7", "9");
+        assertThat(namespaces.version("activeJobs")).isEqualTo(7);
+
+        bus.onMessage(new DefaultMessage("cache:invalidation".getBytes(StandardCharsets.UTF_8),
+                "N|other-node|activeJobs|".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(namespaces.version("activeJobs")).isEqualTo(9);
+    }
+}
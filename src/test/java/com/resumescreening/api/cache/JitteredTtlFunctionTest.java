@@ -0,0 +1,32 @@
+package com.resumescreening.api.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JitteredTtlFunctionTest {
+
+    @Test
+    void ttlStaysWithinJitterRange() {
+        JitteredTtlFunction ttl = new JitteredTtlFunction(Duration.ofMinutes(10), 0.2);
+
+        Set<Duration> seen = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            Duration value = ttl.getTimeToLive("key", "value");
+            assertThat(value).isBetween(Duration.ofMinutes(10), Duration.ofMinutes(12));
+            seen.add(value);
+        }
+        assertThat(seen).hasSizeGreaterThan(1);
+    }
+
+    @Test
+    void zeroJitterGivesFixedTtl() {
+        JitteredTtlFunction ttl = new JitteredTtlFunction(Duration.ofMinutes(10), 0);
+
+        assertThat(ttl.getTimeToLive("key", null)).isEqualTo(Duration.ofMinutes(10));
+    }
+}
@@ -0,0 +1,83 @@
+package com.resumescreening.api.cache;
+
+import com.resumescreening.api.model.dto.response.ScreeningResultResponse;
+import com.resumescreening.api.model.enums.Recommendation;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SmileRedisSerializerTest {
+
+    private static final String LIST_TYPE =
+            "java.util.List<com.resumescreening.api.model.dto.response.ScreeningResultResponse>";
+
+    @Test
+    void roundTripsTypedListWithoutClassNames() {
+        SmileRedisSerializer serializer = new SmileRedisSerializer(SmileRedisSerializer.resolveType(LIST_TYPE), -1);
+        List<ScreeningResultResponse> results = results(3);
+
+        byte[] bytes = serializer.serialize(results);
+
+        assertThat(bytes[0]).isEqualTo((byte) 1);
+        assertThat(new String(bytes)).doesNotContain("ScreeningResultResponse");
+        assertThat(serializer.deserialize(bytes)).isEqualTo(results);
+    }
+
+    @Test
+    void compressesLargePayloads() {
+        SmileRedisSerializer plain = new SmileRedisSerializer(SmileRedisSerializer.resolveType(LIST_TYPE), -1);
+        SmileRedisSerializer compressed = new SmileRedisSerializer(SmileRedisSerializer.resolveType(LIST_TYPE), 1024);
+        List<ScreeningResultResponse> results = results(50);
+
+        byte[] bytes = compressed.serialize(results);
+
+        assertThat(bytes[0]).isEqualTo((byte) 2);
+        assertThat(bytes.length).isLessThan(plain.serialize(results).length);
+        assertThat(compressed.deserialize(bytes)).isEqualTo(results);
+    }
+
+    @Test
+    void writesSpringNullValueAsMarker() {
+        SmileRedisSerializer serializer = new SmileRedisSerializer(SmileRedisSerializer.resolveType(LIST_TYPE), 1024);
+
+        byte[] bytes = serializer.serialize(NullValue.INSTANCE);
+
+        assertThat(bytes).containsExactly(0);
+        assertThat(serializer.deserialize(bytes)).isSameAs(NullValue.INSTANCE);
+    }
+
+    @Test
+    void rejectsCorruptCompressedValue() {
+        SmileRedisSerializer serializer = new SmileRedisSerializer(SmileRedisSerializer.resolveType(LIST_TYPE), 0);
+
+        assertThatThrownBy(() -> serializer.deserialize(new byte[] {2, 0x7f, 0, 0, 0, 1, 2, 3}))
+                .isInstanceOf(SerializationException.class);
+    }
+
+    private List<ScreeningResultResponse> results(int count) {
+        List<ScreeningResultResponse> results = new ArrayList<>();
+        for (long i = 1; i <= count; i++) {
+            results.add(ScreeningResultResponse.builder()
+                    .id(i)
+                    .applicationId(100 + i)
+                    .jobPostingId(7L)
+                    .jobTitle("Senior Backend Engineer")
+                    .candidateName("Candidate " + i)
+                    .matchScore((int) (50 + i % 50))
+                    .recommendation(Recommendation.values()[(int) (i % Recommendation.values().length)])
+                    .matchedSkills(List.of("Java", "Spring Boot", "PostgreSQL"))
+                    .missingSkills(List.of("Kubernetes"))
+                    .strengths("Strong backend experience with high-throughput services")
+                    .screenedAt(LocalDateTime.of(2026, 1, 15, 10, 30))
+                    .build());
+        }
+        return results;
+    }
+}
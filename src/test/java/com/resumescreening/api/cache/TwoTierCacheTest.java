@@ -0,0 +1,247 @@
+package com.resumescreening.api.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TwoTierCacheTest {
+
+    private StringRedisTemplate redisTemplate;
+    private CacheInvalidationBus bus;
+    private ConcurrentMapCache remote;
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheMetrics metrics;
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        bus = new CacheInvalidationBus(redisTemplate, "cache:invalidation");
+        remote = new ConcurrentMapCache("jobs");
+        local = Caffeine.newBuilder().maximumSize(100).build();
+        meterRegistry = new SimpleMeterRegistry();
+        metrics = new CacheMetrics("jobs", meterRegistry);
+        cache = new TwoTierCache("jobs", local, remote, bus, true, LoadPolicy.LOCAL_ONLY, metrics);
+        bus.register(cache);
+    }
+
+    @Test
+    void remoteHitIsCopiedIntoLocalTier() {
+        remote.put(1L, "job-1");
+
+        assertThat(cache.get(1L).get()).isEqualTo("job-1");
+        assertThat(local.getIfPresent("1")).isEqualTo("job-1");
+
+        remote.evict(1L);
+        assertThat(cache.get(1L).get()).isEqualTo("job-1");  // Served locally now
+    }
+
+    @Test
+    void disabledLocalTierReadsEveryValueFromRemote() {
+        TwoTierCache remoteOnly = new TwoTierCache("users", null, remote, bus, true, LoadPolicy.LOCAL_ONLY, metrics);
+        remoteOnly.put(3L, "user-3");
+        assertThat(remoteOnly.get(3L, () -> "loaded")).isEqualTo("user-3");
+
+        // Nothing is kept in-process, so a change in Redis is seen by the next read
+        remote.put(3L, "user-3-updated");
+        assertThat(remoteOnly.get(3L).get()).isEqualTo("user-3-updated");
+        assertThat(local.estimatedSize()).isZero();
+
+        remoteOnly.evict(3L);
+        remoteOnly.evictLocal("3");
+        remoteOnly.clearLocal();
+        assertThat(remoteOnly.get(3L)).isNull();
+    }
+
+    @Test
+    void nullValuesAreCachedInBothTiers() {
+        cache.put(2L, null);
+
+        assertThat(cache.get(2L)).isNotNull();
+        assertThat(cache.get(2L).get()).isNull();
+    }
+
+    @Test
+    void nullValuesAreNotCachedWhenDisabled() {
+        TwoTierCache noNulls = new TwoTierCache("jobs", local, remote, bus, false, LoadPolicy.LOCAL_ONLY, metrics);
+        noNulls.put(8L, "job-8");
+
+        noNulls.put(8L, null);
+
+        assertThat(noNulls.get(8L)).isNull();
+        assertThat(remote.get(8L)).isNull();
+    }
+
+    @Test
+    void loaderRunsOnlyOnMiss() {
+        assertThat(cache.get(3L, () -> "loaded")).isEqualTo("loaded");
+        assertThat(cache.get(3L, () -> "loaded again")).isEqualTo("loaded");
+        assertThat(remote.get(3L).get()).isEqualTo("loaded");
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService threads = Executors.newFixedThreadPool(8)) {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(threads.submit(() -> {
+                    start.await();
+                    return cache.get(9L, () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(200);
+                        return "job-9";
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Object> result : results) {
+                assertThat(result.get()).isEqualTo("job-9");
+            }
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void loaderErrorIsPassedToWaitingCallers() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+
+        // Not try-with-resources: a regression leaves the waiter stuck in join(), and close() would wait for it
+        ExecutorService threads = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> loader = threads.submit(() -> cache.get(10L, () -> {
+                loading.countDown();
+                // Fail only once the second caller is waiting on this load
+                while (meterRegistry.get("cache.twotier.load.coalesced").counter().count() < 1) {
+                    Thread.sleep(10);
+                }
+                throw new StackOverflowError("loader blew up");
+            }));
+            loading.await();
+            Future<Object> waiter = threads.submit(() -> cache.get(10L, () -> "never called"));
+
+            assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(StackOverflowError.class);
+            assertThatThrownBy(() -> loader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(StackOverflowError.class);
+        } finally {
+            threads.shutdownNow();
+        }
+        // The failed load is not left behind
+        assertThat(cache.get(10L, () -> "job-10")).isEqualTo("job-10");
+    }
+
+    @Test
+    void waitsForValueLoadedByLockHolder() {
+        RedisLoadCoordinator coordinator = mock(RedisLoadCoordinator.class);
+        when(coordinator.getLockTtl()).thenReturn(Duration.ofSeconds(5));
+        when(coordinator.tryLock("jobs::10")).thenReturn(null);
+        TwoTierCache locked = new TwoTierCache("jobs", local, remote, bus, true,
+                new LoadPolicy(coordinator, "jobs::", true, Duration.ZERO, Runnable::run), metrics);
+
+        // Another node finishes loading shortly after
+        CompletableFuture.runAsync(() -> remote.put(10L, "from-other-node"),
+                CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS));
+
+        assertThat(locked.get(10L, () -> "loaded-here")).isEqualTo("from-other-node");
+    }
+
+    @Test
+    void refreshesAheadOfExpiryAndServesCurrentValue() {
+        RedisLoadCoordinator coordinator = mock(RedisLoadCoordinator.class);
+        when(coordinator.remainingTtl("jobs::11")).thenReturn(Duration.ofSeconds(10));
+        TwoTierCache refreshing = new TwoTierCache("jobs", local, remote, bus, true,
+                new LoadPolicy(coordinator, "jobs::", false, Duration.ofMinutes(1), Runnable::run), metrics);
+        remote.put(11L, "old");
+
+        assertThat(refreshing.get(11L, () -> "new")).isEqualTo("old");
+        assertThat(remote.get(11L).get()).isEqualTo("new");
+        assertThat(local.getIfPresent("11")).isEqualTo("new");
+    }
+
+    @Test
+    void recordsHitsPerTierMissesAndLoads() {
+        remote.put(12L, "job-12");
+        cache.get(12L);                        // L2 hit
+        cache.get(12L);                        // L1 hit
+        cache.get(13L, () -> "job-13");        // Miss + load
+
+        assertThat(count("cache.twotier.gets", "result", "hit", "tier", "l2")).isEqualTo(1);
+        assertThat(count("cache.twotier.gets", "result", "hit", "tier", "l1")).isEqualTo(1);
+        assertThat(count("cache.twotier.gets", "result", "miss", "tier", "none")).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.twotier.load").tag("result", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.twotier.puts").counter().count()).isEqualTo(1);
+        // Micrometer's cache binders own the plain cache.* names
+        assertThat(meterRegistry.find("cache.gets").meters()).isEmpty();
+    }
+
+    @Test
+    void writesAndEvictionsAreAnnounced() {
+        cache.put(4L, "job-4");
+        cache.evict(4L);
+        cache.clear();
+
+        verify(redisTemplate, times(2)).convertAndSend(eq("cache:invalidation"), startsWith("E|"));
+        verify(redisTemplate).convertAndSend(eq("cache:invalidation"), startsWith("C|"));
+        assertThat(remote.get(4L)).isNull();
+    }
+
+    @Test
+    void messagesFromOtherNodesDropOnlyTheLocalEntry() {
+        cache.put(5L, "job-5");
+
+        bus.onMessage(message("E|other-node|jobs|5"), null);
+
+        assertThat(local.getIfPresent("5")).isNull();
+        assertThat(remote.get(5L).get()).isEqualTo("job-5");
+    }
+
+    @Test
+    void clearFromOtherNodeEmptiesLocalTier() {
+        cache.put(6L, "job-6");
+        cache.put(7L, "job-7");
+
+        bus.onMessage(message("C|other-node|jobs|"), null);
+
+        assertThat(local.asMap()).isEmpty();
+    }
+
+    private double count(String name, String... tags) {
+        return meterRegistry.get(name).tags(tags).counter().count();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("cache:invalidation".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,148 @@
+package com.resumescreening.api.repository;
+
+import com.resumescreening.api.model.entity.BatchScreeningRun;
+import com.resumescreening.api.model.entity.JobPosting;
+import com.resumescreening.api.model.entity.User;
+import com.resumescreening.api.model.enums.BatchRunStatus;
+import com.resumescreening.api.model.enums.Role;
+import com.resumescreening.api.support.PostgresTestDatabase;
+import com.resumescreening.api.support.TestData;
+import com.resumescreening.api.util.DtoMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIf(PostgresTestDatabase.AVAILABLE)
+class BatchScreeningRunRepositoryTest {
+
+    private static final List<BatchRunStatus> UNFINISHED = List.of(BatchRunStatus.QUEUED, BatchRunStatus.RUNNING);
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Autowired
+    private BatchScreeningRunRepository runRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private Long runId;
+
+    @BeforeEach
+    void createRun() {
+        User recruiter = TestData.user(em, Role.RECRUITER);
+        JobPosting job = TestData.job(em, recruiter);
+        BatchScreeningRun run = new BatchScreeningRun();
+        run.setJobPosting(job);
+        run.setRecruiter(recruiter);
+        run.setTotalCount(10);
+        em.persist(run);
+        em.flush();
+        runId = run.getId();
+    }
+
+    @Test
+    void onlyOneNodeClaimsAFreeRun() {
+        assertThat(runRepository.findClaimable(UNFINISHED, now)).extracting(BatchScreeningRun::getId).contains(runId);
+
+        assertThat(runRepository.claim(runId, UNFINISHED, "node-a", now, now.plusMinutes(2))).isEqualTo(1);
+        assertThat(runRepository.claim(runId, UNFINISHED, "node-b", now, now.plusMinutes(2))).isZero();
+
+        assertThat(runRepository.findClaimable(UNFINISHED, now)).extracting(BatchScreeningRun::getId)
+                .doesNotContain(runId);
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverAndTheOldOwnerStopsCounting() {
+        runRepository.claim(runId, UNFINISHED, "node-a", now.minusMinutes(5), now.minusMinutes(3));
+        runRepository.markStarted(runId, "node-a", BatchRunStatus.RUNNING, 10, 0, now.minusMinutes(5));
+
+        assertThat(runRepository.claim(runId, UNFINISHED, "node-b", now, now.plusMinutes(2))).isEqualTo(1);
+
+        assertThat(runRepository.renewLease(runId, UNFINISHED, "node-a", now.plusMinutes(2))).isZero();
+        assertThat(runRepository.recordItem(runId, "node-a", 0, 0)).isZero();
+        assertThat(runRepository.markFinished(runId, "node-a", BatchRunStatus.COMPLETED, now, null)).isZero();
+        assertThat(runRepository.recordItem(runId, "node-b", 0, 0)).isEqualTo(1);
+
+        BatchScreeningRun run = reload();
+        assertThat(run.getOwner()).isEqualTo("node-b");
+        assertThat(run.getStatus()).isEqualTo(BatchRunStatus.RUNNING);
+        assertThat(run.getProcessedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void resumingKeepsRecordedWorkAndRetriesFailures() {
+        LocalDateTime firstStart = now.minusMinutes(10);
+        runRepository.claim(runId, UNFINISHED, "node-a", firstStart, firstStart.plusMinutes(2));
+        // 3 of 10 were screened before the run started
+        runRepository.markStarted(runId, "node-a", BatchRunStatus.RUNNING, 10, 3, firstStart);
+        runRepository.recordItem(runId, "node-a", 0, 0);
+        runRepository.recordItem(runId, "node-a", 0, 0);
+        runRepository.recordItem(runId, "node-a", 1, 0);
+
+        // node-a dies; node-b finds 5 applications screened (3 before + 2 by node-a), the failed one is pending again
+        runRepository.claim(runId, UNFINISHED, "node-b", now, now.plusMinutes(2));
+        runRepository.markStarted(runId, "node-b", BatchRunStatus.RUNNING, 10, 5, now);
+
+        BatchScreeningRun run = reload();
+        assertThat(run.getProcessedCount()).isEqualTo(5);
+        assertThat(run.getSkippedCount()).isEqualTo(3);
+        assertThat(run.getFailedCount()).isZero();
+        assertThat(run.getStartedAt()).isEqualToIgnoringNanos(firstStart);
+    }
+
+    @Test
+    void throughputAfterAResumeCountsOnlyTheNewSegment() {
+        LocalDateTime firstStart = now.minusMinutes(30);
+        runRepository.claim(runId, UNFINISHED, "node-a", firstStart, firstStart.plusMinutes(2));
+        runRepository.markStarted(runId, "node-a", BatchRunStatus.RUNNING, 10, 3, firstStart);
+        runRepository.recordItem(runId, "node-a", 0, 0);
+        runRepository.recordItem(runId, "node-a", 0, 0);
+
+        // node-a is gone for ~30 minutes; node-b resumes with 5 done and screens 4 more in 2 minutes
+        runRepository.claim(runId, UNFINISHED, "node-b", now, now.plusMinutes(2));
+        runRepository.markStarted(runId, "node-b", BatchRunStatus.RUNNING, 10, 5, now);
+        for (int i = 0; i < 4; i++) {
+            runRepository.recordItem(runId, "node-b", 0, 0);
+        }
+        runRepository.markFinished(runId, "node-b", BatchRunStatus.COMPLETED, now.plusMinutes(2), null);
+
+        BatchScreeningRun run = reload();
+        assertThat(run.getProcessedCount()).isEqualTo(9);
+        assertThat(run.getProcessedAtSegmentStart()).isEqualTo(5);
+        assertThat(run.getStartedAt()).isEqualToIgnoringNanos(firstStart);
+        // 4 items in 2 minutes, not 9 items over 32 minutes
+        assertThat(DtoMapper.toBatchRunResponse(run).getThroughputPerMinute()).isCloseTo(2.0, within(1e-6));
+    }
+
+    @Test
+    void releasedLeasesAreClaimableAtOnce() {
+        runRepository.claim(runId, UNFINISHED, "node-a", now, now.plusMinutes(2));
+
+        assertThat(runRepository.releaseLeases(UNFINISHED, "node-a")).isEqualTo(1);
+
+        assertThat(runRepository.claim(runId, UNFINISHED, "node-b", now, now.plusMinutes(2))).isEqualTo(1);
+    }
+
+    private BatchScreeningRun reload() {
+        em.clear();
+        return runRepository.findById(runId).orElseThrow();
+    }
+}
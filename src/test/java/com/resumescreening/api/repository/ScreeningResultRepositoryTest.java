@@ -0,0 +1,171 @@
+package com.resumescreening.api.repository;
+
+import com.resumescreening.api.model.dto.response.CursorPageResponse;
+import com.resumescreening.api.model.dto.response.ScreeningResultResponse;
+import com.resumescreening.api.model.entity.JobPosting;
+import com.resumescreening.api.model.entity.ScreeningResult;
+import com.resumescreening.api.model.enums.Role;
+import com.resumescreening.api.service.ScreeningService;
+import com.resumescreening.api.support.PostgresTestDatabase;
+import com.resumescreening.api.support.TestData;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIf(PostgresTestDatabase.AVAILABLE)
+class ScreeningResultRepositoryTest {
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry);
+    }
+
+    @Autowired
+    private ScreeningResultRepository screeningRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    // The read paths under test only touch the repository
+    private ScreeningService screeningService;
+    private JobPosting job;
+
+    @BeforeEach
+    void setUp() {
+        screeningService = new ScreeningService(null, screeningRepository, null, null, null);
+        job = TestData.job(em, TestData.user(em, Role.RECRUITER));
+    }
+
+    @Test
+    void keysetPagesSplitTiedScoresWithoutGapsOrDuplicates() {
+        // Four results share 80, so with pages of 3 the tie straddles the first page boundary
+        List<ScreeningResult> results = screen(job, 90, 80, 80, 70, 80, 60, 80);
+        // Another job's results must not leak into the pages
+        screen(TestData.job(em, job.getUser()), 85, 80);
+        em.flush();
+        em.clear();
+
+        List<CursorPageResponse<ScreeningResultResponse>> pages = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageResponse<ScreeningResultResponse> page = screeningService.getScreeningResultsPage(job.getId(), cursor, 3);
+            pages.add(page);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(pages).extracting(page -> page.getItems().size()).containsExactly(3, 3, 1);
+        assertThat(pages).extracting(CursorPageResponse::isHasMore).containsExactly(true, true, false);
+        assertThat(pages.getLast().getNextCursor()).isNull();
+
+        List<Long> walked = pages.stream()
+                .flatMap(page -> page.getItems().stream())
+                .map(ScreeningResultResponse::getId)
+                .toList();
+        List<Long> expected = results.stream()
+                .sorted(Comparator.comparing(ScreeningResult::getMatchScore).reversed()
+                        .thenComparing(ScreeningResult::getId))
+                .map(ScreeningResult::getId)
+                .toList();
+        assertThat(walked).doesNotHaveDuplicates().containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void lastPageThatExactlyFillsTheLimitHasNoCursor() {
+        screen(job, 50, 50, 50, 50);
+        em.flush();
+        em.clear();
+
+        CursorPageResponse<ScreeningResultResponse> first = screeningService.getScreeningResultsPage(job.getId(), null, 2);
+        CursorPageResponse<ScreeningResultResponse> second =
+                screeningService.getScreeningResultsPage(job.getId(), first.getNextCursor(), 2);
+
+        assertThat(first.isHasMore()).isTrue();
+        assertThat(second.getItems()).hasSize(2);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(screeningService.getScreeningResultsPage(job.getId(), null, 4).getNextCursor()).isNull();
+    }
+
+    @Test
+    void emptyJobReturnsAnEmptyLastPage() {
+        CursorPageResponse<ScreeningResultResponse> page = screeningService.getScreeningResultsPage(job.getId(), null, 10);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void topCandidatesBreakTiesByIdAndStopAtK() {
+        List<ScreeningResult> results = screen(job, 70, 95, 95, 40);
+        em.flush();
+        em.clear();
+
+        assertThat(screeningService.getTopCandidates(job.getId(), 3))
+                .extracting(ScreeningResultResponse::getId)
+                .containsExactly(results.get(1).getId(), results.get(2).getId(), results.get(0).getId());
+    }
+
+    @Test
+    void statisticsAreAggregatedInTheDatabase() {
+        // Sorted: 10, 45, 60, 70, 85, 95, 100
+        screen(job, 85, 10, 100, 60, 45, 95, 70);
+        screen(TestData.job(em, job.getUser()), 0, 100);
+        em.flush();
+        em.clear();
+
+        ScreeningService.ScreeningStatistics stats = screeningService.getScreeningStatistics(job.getId());
+
+        assertThat(stats.totalScreened()).isEqualTo(7);
+        assertThat(stats.strongFit()).isEqualTo(3);
+        assertThat(stats.goodFit()).isEqualTo(2);
+        assertThat(stats.moderateFit()).isEqualTo(1);
+        assertThat(stats.poorFit()).isEqualTo(1);
+        assertThat(stats.averageScore()).isCloseTo(465 / 7.0, within(1e-9));
+        assertThat(stats.minScore()).isEqualTo(10);
+        assertThat(stats.maxScore()).isEqualTo(100);
+        assertThat(stats.medianScore()).isEqualTo(70.0);
+        // percentile_cont interpolates: 95 + 0.4 * (100 - 95)
+        assertThat(stats.p90Score()).isCloseTo(97.0, within(1e-9));
+        assertThat(stats.scoreHistogram())
+                .extracting(ScreeningService.ScreeningStatistics.ScoreBucket::count)
+                .containsExactly(0L, 1L, 0L, 0L, 1L, 0L, 1L, 1L, 1L, 2L);
+        assertThat(stats.scoreHistogram().getLast().to()).isEqualTo(100);
+    }
+
+    @Test
+    void statisticsOfAnUnscreenedJobAreEmpty() {
+        ScreeningService.ScreeningStatistics stats = screeningService.getScreeningStatistics(job.getId());
+
+        assertThat(stats.totalScreened()).isZero();
+        assertThat(stats.averageScore()).isZero();
+        assertThat(stats.minScore()).isNull();
+        assertThat(stats.medianScore()).isNull();
+        assertThat(stats.p90Score()).isNull();
+        assertThat(stats.scoreHistogram()).hasSize(10)
+                .allSatisfy(bucket -> assertThat(bucket.count()).isZero());
+    }
+
+    private List<ScreeningResult> screen(JobPosting job, int... scores) {
+        List<ScreeningResult> results = new ArrayList<>();
+        for (int score : scores) {
+            results.add(TestData.screening(em, TestData.applicant(em, job), score));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,52 @@
+package com.resumescreening.api.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalStorageServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void storesTransfersRangesAndDeletes() throws IOException {
+        LocalStorageService storage = new LocalStorageService(tempDir.resolve("root").toString());
+        Path source = Files.writeString(tempDir.resolve("resume.pdf"), "0123456789");
+
+        String location = storage.store(source, "resume.pdf", "application/pdf", "resumes");
+
+        assertThat(location).startsWith("local:resumes/").endsWith(".pdf");
+        assertThat(storage.size(location)).isEqualTo(10);
+        assertThat(read(storage, location, 2, 5)).isEqualTo("23456");
+        assertThat(storage.localPath(location)).hasValueSatisfying(path -> assertThat(path).exists());
+
+        storage.delete(location);
+        assertThat(storage.localPath(location)).hasValueSatisfying(path -> assertThat(path).doesNotExist());
+    }
+
+    @Test
+    void rejectsLocationsOutsideTheRootDirectory() throws IOException {
+        LocalStorageService storage = new LocalStorageService(tempDir.resolve("root").toString());
+
+        assertThatThrownBy(() -> storage.size("local:../secret.txt"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> storage.size("https://bucket.s3.amazonaws.com/resumes/a.pdf"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String read(LocalStorageService storage, String location, long offset, long length) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        storage.transferTo(location, offset, length, Channels.newChannel(out));
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,107 @@
+package com.resumescreening.api.service;
+
+import com.resumescreening.api.config.AwsConfig;
+import com.resumescreening.api.support.FakeS3Server;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class S3ServiceTest {
+
+    private static final String BUCKET = "resumes-test";
+
+    @TempDir
+    Path tempDir;
+
+    private FakeS3Server s3;
+    private S3Client s3Client;
+    private S3AsyncClient s3AsyncClient;
+    private S3TransferManager transferManager;
+    private S3Service storage;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        s3 = new FakeS3Server();
+
+        AwsConfig config = new AwsConfig();
+        ReflectionTestUtils.setField(config, "accessKey", "test");
+        ReflectionTestUtils.setField(config, "secretKey", "test");
+        ReflectionTestUtils.setField(config, "region", "us-east-1");
+        ReflectionTestUtils.setField(config, "endpoint", s3.endpoint());
+        ReflectionTestUtils.setField(config, "pathStyleAccess", true);
+        ReflectionTestUtils.setField(config, "partSize", DataSize.ofMegabytes(5));
+        ReflectionTestUtils.setField(config, "maxInFlightParts", 4);
+        ReflectionTestUtils.setField(config, "maxAttempts", 1);
+
+        s3Client = config.s3Client();
+        s3AsyncClient = config.s3AsyncClient();
+        transferManager = config.s3TransferManager(s3AsyncClient);
+
+        storage = new S3Service(s3Client, transferManager);
+        ReflectionTestUtils.setField(storage, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(storage, "endpoint", s3.endpoint());
+        ReflectionTestUtils.setField(storage, "multipartThreshold", DataSize.ofMegabytes(8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        transferManager.close();
+        s3AsyncClient.close();
+        s3Client.close();
+        s3.close();
+    }
+
+    @Test
+    void uploadsSmallFilesWithASinglePut() throws IOException {
+        byte[] content = randomBytes(64 * 1024);
+        Path source = Files.write(tempDir.resolve("small.pdf"), content);
+
+        String location = storage.store(source, "small.pdf", "application/pdf", "resumes");
+
+        assertThat(location).startsWith(s3.endpoint() + "/" + BUCKET + "/resumes/").endsWith(".pdf");
+        assertThat(s3.operations()).containsExactly("PutObject");
+        assertThat(s3.object(key(location))).isEqualTo(content);
+        assertThat(storage.size(location)).isEqualTo(content.length);
+    }
+
+    @Test
+    void uploadsLargeFilesInParts() throws IOException {
+        // 12MB above the 8MB threshold - three 5MB parts, the last one short
+        byte[] content = randomBytes(12 * 1024 * 1024);
+        Path source = Files.write(tempDir.resolve("large.pdf"), content);
+
+        String location = storage.store(source, "large.pdf", "application/pdf", "resumes");
+
+        assertThat(s3.operations())
+                .startsWith("CreateMultipartUpload")
+                .endsWith("CompleteMultipartUpload")
+                .filteredOn("UploadPart"::equals).hasSize(3);
+        assertThat(s3.operations()).doesNotContain("PutObject");
+        assertThat(s3.object(key(location))).isEqualTo(content);
+        assertThat(storage.size(location)).isEqualTo(content.length);
+    }
+
+    // "bucket/key" as stored by the fake
+    private String key(String location) {
+        return location.substring(s3.endpoint().length() + 1);
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
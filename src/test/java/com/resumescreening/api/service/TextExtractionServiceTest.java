@@ -0,0 +1,93 @@
+package com.resumescreening.api.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextExtractionServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void longPdfsStrippedInParallelMatchTheSequentialText() throws IOException {
+        Path pdf = writePdf(45);
+        TextExtractionService sequential = service(1000, 1);
+        TextExtractionService parallel = service(20, 4);
+        try {
+            String expected = sequential.extractTextFromPdf(pdf);
+            String actual = parallel.extractTextFromPdf(pdf);
+
+            assertThat(actual).isEqualTo(expected);
+            assertThat(pageNumbers(actual)).isEqualTo(rangeClosed(1, 45));
+        } finally {
+            sequential.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    @Test
+    void fewerPagesThanWorkersStillExtractEveryPage() throws IOException {
+        // 21 pages with 8-page ranges: 3 workers although 16 are allowed
+        Path pdf = writePdf(21);
+        TextExtractionService parallel = service(20, 16);
+        try {
+            assertThat(pageNumbers(parallel.extractTextFromPdf(pdf))).isEqualTo(rangeClosed(1, 21));
+        } finally {
+            parallel.shutdown();
+        }
+    }
+
+    private static TextExtractionService service(int parallelPageThreshold, int parallelism) {
+        return new TextExtractionService(DataSize.ofMegabytes(4), DataSize.ofMegabytes(256),
+                parallelPageThreshold, 8, parallelism, 2);
+    }
+
+    private Path writePdf(int pages) throws IOException {
+        Path path = tempDir.resolve("resume-" + pages + ".pdf");
+        try (PDDocument document = new PDDocument()) {
+            PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            for (int i = 1; i <= pages; i++) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 12);
+                    content.newLineAtOffset(72, 700);
+                    content.showText("Experience section page " + i);
+                    content.endText();
+                }
+            }
+            document.save(path.toFile());
+        }
+        return path;
+    }
+
+    private static List<Integer> pageNumbers(String text) {
+        List<Integer> numbers = new ArrayList<>();
+        Matcher matcher = Pattern.compile("page (\\d+)").matcher(text);
+        while (matcher.find()) {
+            numbers.add(Integer.parseInt(matcher.group(1)));
+        }
+        return numbers;
+    }
+
+    private static List<Integer> rangeClosed(int from, int to) {
+        return IntStream.rangeClosed(from, to).boxed().toList();
+    }
+}
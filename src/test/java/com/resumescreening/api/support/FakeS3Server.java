@@ -0,0 +1,186 @@
+package com.resumescreening.api.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process S3 stand-in for tests that cannot start MinIO.
+ * - Path-style requests only: PutObject, CreateMultipartUpload, UploadPart, CompleteMultipartUpload, HeadObject, GetObject
+ * - Understands aws-chunked bodies (the SDK's streaming signatures and trailing checksums)
+ * - Records every operation so tests can assert which upload path was taken
+ */
+public class FakeS3Server implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final List<String> operations = new CopyOnWriteArrayList<>();
+
+    public FakeS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    // "bucket/key" -> stored bytes
+    public byte[] object(String bucketAndKey) {
+        return objects.get(bucketAndKey);
+    }
+
+    public List<String> operations() {
+        return List.copyOf(operations);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath().substring(1);
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            String method = exchange.getRequestMethod();
+
+            if (method.equals("POST") && query.containsKey("uploads")) {
+                String uploadId = UUID.randomUUID().toString();
+                uploads.put(uploadId, new TreeMap<>());
+                operations.add("CreateMultipartUpload");
+                int slash = path.indexOf('/');
+                sendXml(exchange, "<InitiateMultipartUploadResult>"
+                        + "<Bucket>" + path.substring(0, slash) + "</Bucket>"
+                        + "<Key>" + path.substring(slash + 1) + "</Key>"
+                        + "<UploadId>" + uploadId + "</UploadId>"
+                        + "</InitiateMultipartUploadResult>");
+            } else if (method.equals("PUT") && query.containsKey("uploadId")) {
+                byte[] part = body(exchange);
+                uploads.get(query.get("uploadId")).put(Integer.parseInt(query.get("partNumber")), part);
+                operations.add("UploadPart");
+                sendEmpty(exchange, 200, etag(part));
+            } else if (method.equals("POST") && query.containsKey("uploadId")) {
+                body(exchange);
+                ByteArrayOutputStream assembled = new ByteArrayOutputStream();
+                for (byte[] part : uploads.remove(query.get("uploadId")).values()) {
+                    assembled.writeBytes(part);
+                }
+                objects.put(path, assembled.toByteArray());
+                operations.add("CompleteMultipartUpload");
+                sendXml(exchange, "<CompleteMultipartUploadResult>"
+                        + "<Key>" + path + "</Key>"
+                        + "<ETag>" + etag(assembled.toByteArray()) + "</ETag>"
+                        + "</CompleteMultipartUploadResult>");
+            } else if (method.equals("PUT")) {
+                byte[] content = body(exchange);
+                objects.put(path, content);
+                operations.add("PutObject");
+                sendEmpty(exchange, 200, etag(content));
+            } else if (method.equals("HEAD") || method.equals("GET")) {
+                byte[] content = objects.get(path);
+                if (content == null) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                operations.add(method.equals("HEAD") ? "HeadObject" : "GetObject");
+                exchange.getResponseHeaders().set("ETag", etag(content));
+                exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+                if (method.equals("HEAD")) {
+                    exchange.getResponseHeaders().set("Content-Length", String.valueOf(content.length));
+                    exchange.sendResponseHeaders(200, -1);
+                } else {
+                    exchange.sendResponseHeaders(200, content.length);
+                    exchange.getResponseBody().write(content);
+                }
+            } else {
+                exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    private static byte[] body(HttpExchange exchange) throws IOException {
+        byte[] raw = exchange.getRequestBody().readAllBytes();
+        String sha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        String encoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+        boolean chunked = (sha != null && sha.startsWith("STREAMING-"))
+                || (encoding != null && encoding.contains("aws-chunked"));
+        return chunked ? decodeAwsChunked(raw) : raw;
+    }
+
+    // <hex size>[;chunk-signature=...]\r\n<data>\r\n ... 0\r\n[trailers]\r\n
+    private static byte[] decodeAwsChunked(byte[] raw) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int pos = 0;
+        while (true) {
+            int lineEnd = indexOfCrlf(raw, pos);
+            String header = new String(raw, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";", 2)[0].trim(), 16);
+            pos = lineEnd + 2;
+            if (size == 0) {
+                return out.toByteArray();
+            }
+            out.write(raw, pos, size);
+            pos += size + 2;
+        }
+    }
+
+    private static int indexOfCrlf(byte[] raw, int from) {
+        for (int i = from; i < raw.length - 1; i++) {
+            if (raw[i] == '\r' && raw[i + 1] == '\n') {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Malformed aws-chunked body");
+    }
+
+    private static Map<String, String> query(String rawQuery) {
+        Map<String, String> params = new TreeMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                String[] kv = pair.split("=", 2);
+                params.put(kv[0], kv.length > 1 ? kv[1] : "");
+            }
+        }
+        return params;
+    }
+
+    private static void sendXml(HttpExchange exchange, String xml) throws IOException {
+        byte[] bytes = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sendEmpty(HttpExchange exchange, int status, String etag) throws IOException {
+        exchange.getResponseHeaders().set("ETag", etag);
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    // Quoted MD5, the SDK compares it with its own digest for single-part uploads
+    private static String etag(byte[] content) {
+        try {
+            return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.resumescreening.api.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Real Postgres for tests and benchmarks that depend on its SQL (jsonb, FILTER, percentile_cont, keyset order).
+ * - Default: one postgres:16 Testcontainers container per JVM, shared by all test classes
+ * - -Dtest.postgres.url=jdbc:postgresql://host:port/db (with -Dtest.postgres.username / -Dtest.postgres.password)
+ *   uses an existing database instead, e.g. on CI runners without Docker
+ * - Tests guarded with @EnabledIf(AVAILABLE) are skipped when neither is available
+ */
+public final class PostgresTestDatabase {
+
+    public static final String AVAILABLE = "com.resumescreening.api.support.PostgresTestDatabase#available";
+
+    private static final String URL = System.getProperty("test.postgres.url");
+    private static PostgreSQLContainer container;
+
+    private PostgresTestDatabase() {
+    }
+
+    public static boolean available() {
+        return URL != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    public static synchronized String jdbcUrl() {
+        return URL != null ? URL : container().getJdbcUrl();
+    }
+
+    public static synchronized String username() {
+        return URL != null ? System.getProperty("test.postgres.username", "postgres") : container().getUsername();
+    }
+
+    public static synchronized String password() {
+        return URL != null ? System.getProperty("test.postgres.password", "") : container().getPassword();
+    }
+
+    // For @DynamicPropertySource; the schema is generated from the entities
+    public static void register(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PostgresTestDatabase::jdbcUrl);
+        registry.add("spring.datasource.username", PostgresTestDatabase::username);
+        registry.add("spring.datasource.password", PostgresTestDatabase::password);
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    }
+
+    private static PostgreSQLContainer container() {
+        if (container == null) {
+            container = new PostgreSQLContainer("postgres:16-alpine");
+            container.start(); // Stopped by the Testcontainers reaper when the JVM exits
+        }
+        return container;
+    }
+}
@@ -0,0 +1,93 @@
+package com.resumescreening.api.support;
+
+import com.resumescreening.api.model.entity.Application;
+import com.resumescreening.api.model.entity.JobPosting;
+import com.resumescreening.api.model.entity.Resume;
+import com.resumescreening.api.model.entity.ScreeningResult;
+import com.resumescreening.api.model.entity.User;
+import com.resumescreening.api.model.enums.ApplicationStatus;
+import com.resumescreening.api.model.enums.ExperienceLevel;
+import com.resumescreening.api.model.enums.Recommendation;
+import com.resumescreening.api.model.enums.Role;
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Persists minimal valid entity graphs for repository tests and benchmarks
+public final class TestData {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private TestData() {
+    }
+
+    public static User user(EntityManager em, Role role) {
+        User user = new User();
+        user.setEmail(role.name().toLowerCase() + SEQUENCE.incrementAndGet() + "@example.com");
+        user.setPassword("hashed_password");
+        user.setFullName(role == Role.RECRUITER ? "Rita Recruiter" : "Carl Candidate " + SEQUENCE.get());
+        user.setRole(role);
+        em.persist(user);
+        return user;
+    }
+
+    public static JobPosting job(EntityManager em, User recruiter) {
+        JobPosting job = new JobPosting();
+        job.setUser(recruiter);
+        job.setTitle("Senior Java Developer");
+        job.setDescription("Spring Boot services on Postgres and Redis");
+        job.setRequiredSkills(List.of("Java", "Spring Boot", "PostgreSQL"));
+        job.setExperienceLevel(ExperienceLevel.SENIOR);
+        em.persist(job);
+        return job;
+    }
+
+    public static Resume resume(EntityManager em, User candidate, String extractedText, String parsedData) {
+        Resume resume = Resume.builder()
+                .user(candidate)
+                .fileName("resume-" + SEQUENCE.incrementAndGet() + ".pdf")
+                .filePath("resumes/" + SEQUENCE.get() + ".pdf")
+                .contentType("application/pdf")
+                .extractedText(extractedText)
+                .parsedData(parsedData)
+                .isPrimary(true)
+                .build();
+        em.persist(resume);
+        return resume;
+    }
+
+    public static Application application(EntityManager em, JobPosting job, User candidate, Resume resume) {
+        Application application = Application.builder()
+                .jobPosting(job)
+                .candidate(candidate)
+                .resume(resume)
+                .status(ApplicationStatus.PENDING)
+                .coverLetter("I would like to apply")
+                .build();
+        em.persist(application);
+        return application;
+    }
+
+    // A candidate with a resume and an application to the job
+    public static Application applicant(EntityManager em, JobPosting job) {
+        User candidate = user(em, Role.CANDIDATE);
+        return application(em, job, candidate, resume(em, candidate, "Java developer", null));
+    }
+
+    public static ScreeningResult screening(EntityManager em, Application application, int score) {
+        ScreeningResult result = new ScreeningResult();
+        result.setApplication(application);
+        result.setJobPosting(application.getJobPosting());
+        result.setMatchScore(score);
+        result.setRecommendation(score >= 80 ? Recommendation.STRONG_FIT
+                : score >= 60 ? Recommendation.GOOD_FIT
+                : score >= 40 ? Recommendation.MODERATE_FIT
+                : Recommendation.POOR_FIT);
+        result.setMatchedSkills(List.of("Java", "Spring Boot"));
+        result.setMissingSkills(List.of("Kubernetes"));
+        result.setAiAnalysis("Solid backend experience");
+        em.persist(result);
+        return result;
+    }
+}
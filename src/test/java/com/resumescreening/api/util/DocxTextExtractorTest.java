@@ -0,0 +1,129 @@
+package com.resumescreening.api.util;
+
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DocxTextExtractorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void extractsParagraphsRunsAndTablesInDocumentOrder() throws IOException {
+        Path docx = writeResume();
+
+        String text = DocxTextExtractor.extract(docx);
+
+        assertThat(text).isEqualTo("""
+                Jane Doe
+                Senior\tEngineer
+                Java\tSpring Boot
+                Kafka\tPostgreSQL
+                Education
+                """);
+    }
+
+    @Test
+    void streamAndFileVariantsAgree() throws IOException {
+        Path docx = writeResume();
+
+        try (InputStream in = Files.newInputStream(docx)) {
+            assertThat(DocxTextExtractor.extract(in)).isEqualTo(DocxTextExtractor.extract(docx));
+        }
+    }
+
+    @Test
+    void rejectsArchivesWithoutDocumentPart() throws IOException {
+        Path notDocx = tempDir.resolve("empty.docx");
+        try (OutputStream out = Files.newOutputStream(notDocx);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("other.xml"));
+            zip.closeEntry();
+        }
+
+        assertThatThrownBy(() -> DocxTextExtractor.extract(notDocx))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("word/document.xml");
+    }
+
+    @Test
+    void refusesZipBombsFromFilesAndStreams() throws IOException {
+        // 8MB of whitespace deflates to a few KB and adds no text, so only the inflate limits can stop it
+        Path bomb = writeDocumentXml("bomb.docx", " ".repeat(8 * 1024 * 1024), "");
+
+        assertThatThrownBy(() -> DocxTextExtractor.extract(bomb))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("zip bomb");
+        try (InputStream in = Files.newInputStream(bomb)) {
+            assertThatThrownBy(() -> DocxTextExtractor.extract(in))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("zip bomb");
+        }
+    }
+
+    @Test
+    void stopsAtTheTextCap() throws IOException {
+        // Random letters barely compress, so only the text cap applies
+        Random random = new Random(42);
+        StringBuilder words = new StringBuilder();
+        while (words.length() < DocxTextExtractor.MAX_TEXT_CHARS + 100_000) {
+            words.append((char) ('a' + random.nextInt(26)));
+        }
+        Path large = writeDocumentXml("large.docx", "", words.toString());
+
+        assertThat(DocxTextExtractor.extract(large)).hasSize(DocxTextExtractor.MAX_TEXT_CHARS);
+    }
+
+    private Path writeDocumentXml(String fileName, String padding, String text) throws IOException {
+        Path docx = tempDir.resolve(fileName);
+        try (OutputStream out = Files.newOutputStream(docx);
+             ZipOutputStream zip = new ZipOutputStream(out)) {
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write(("<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\">"
+                    + "<w:body>" + padding + "<w:p><w:r><w:t>" + text + "</w:t></w:r></w:p></w:body></w:document>")
+                    .getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return docx;
+    }
+
+    private Path writeResume() throws IOException {
+        Path docx = tempDir.resolve("resume.docx");
+        try (XWPFDocument document = new XWPFDocument(); OutputStream out = Files.newOutputStream(docx)) {
+            document.createParagraph().createRun().setText("Jane Doe");
+
+            XWPFParagraph title = document.createParagraph();
+            XWPFRun run = title.createRun();
+            run.setText("Senior");
+            run.addTab();
+            run.setText("Engineer");
+
+            XWPFTable skills = document.createTable(2, 2);
+            skills.getRow(0).getCell(0).setText("Java");
+            skills.getRow(0).getCell(1).setText("Spring Boot");
+            skills.getRow(1).getCell(0).setText("Kafka");
+            skills.getRow(1).getCell(1).setText("PostgreSQL");
+
+            document.createParagraph().createRun().setText("Education");
+            document.write(out);
+        }
+        return docx;
+    }
+}
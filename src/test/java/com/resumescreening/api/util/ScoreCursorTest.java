@@ -0,0 +1,27 @@
+package com.resumescreening.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScoreCursorTest {
+
+    @Test
+    void roundTripsThroughAnUrlSafeToken() {
+        ScoreCursor cursor = new ScoreCursor(87, 1_234_567_890_123L);
+
+        String token = cursor.encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(ScoreCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedTokensAsBadInput() {
+        assertThatThrownBy(() -> ScoreCursor.decode("not a cursor!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ScoreCursor.decode(new ScoreCursor(1, 2).encode().substring(2)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.resumescreening.api.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextNormalizerTest {
+
+    private final TextNormalizer normalizer = TextNormalizer.DEFAULT;
+
+    @Test
+    void collapsesWhitespaceAndLineBreaksAndTrims() {
+        assertThat(normalizer.normalize("  Java \t Developer\r\n\nSpring\u00A0Boot  "))
+                .isEqualTo("Java Developer Spring Boot");
+    }
+
+    @Test
+    void stripsControlAndFormatCharacters() {
+        assertThat(normalizer.normalize("\uFEFFKub\u200Bernetes\u0007 and Do\u00ADcker"))
+                .isEqualTo("Kubernetes and Docker");
+    }
+
+    @Test
+    void expandsLigaturesAndTypographicPunctuation() {
+        assertThat(normalizer.normalize("\uFB01nance \uFB02ow \u201Cgreat\u201D \u2013 team\u2019s work\u2026"))
+                .isEqualTo("finance flow \"great\" - team's work...");
+    }
+
+    @Test
+    void joinsWordsHyphenatedAcrossLineBreaks() {
+        assertThat(normalizer.normalize("Seven years of experi-\n  ence in micro-\r\nservices"))
+                .isEqualTo("Seven years of experience in microservices");
+    }
+
+    @Test
+    void keepsRealHyphens() {
+        assertThat(normalizer.normalize("Full-stack, self- taught, Spring -\nBoot, ISO-\n9001"))
+                .isEqualTo("Full-stack, self- taught, Spring - Boot, ISO- 9001");
+    }
+
+    @Test
+    void honoursDisabledOptions() {
+        TextNormalizer whitespaceOnly = new TextNormalizer(new TextNormalizer.Options(true, false, false, false));
+
+        assertThat(whitespaceOnly.normalize(" \uFB01ne-\nline \u200B "))
+                .isEqualTo("\uFB01ne- line \u200B");
+    }
+
+    @Test
+    void handlesNullAndBlankInput() {
+        assertThat(normalizer.normalize(null)).isEmpty();
+        assertThat(normalizer.normalize(" \n\t ")).isEmpty();
+    }
+}